@@ -0,0 +1,32 @@
+// Test de charge k6 : comparaison threads plateforme / threads virtuels.
+//   k6 run -e BASE_URL=http://localhost:8089/tpProjet loadtest/lecture-projets.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8089/tpProjet';
+
+export const options = {
+    scenarios: {
+        rafale: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 2000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500'],
+    },
+};
+
+export default function () {
+    const id = 1 + Math.floor(Math.random() * 1000);
+    const byId = http.get(`${BASE_URL}/Projet/getProjetById/${id}`, { tags: { endpoint: 'getProjetById' } });
+    check(byId, { 'by id 200/404/500': (r) => r.status !== 503 });
+    const page = http.get(`${BASE_URL}/Projet/getProjetsPage?size=50`, { tags: { endpoint: 'getProjetsPage' } });
+    check(page, { 'page 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,37 @@
+package tn.esprit.tpprojet2025.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tn.esprit.tpprojet2025.TpProjet2025Application;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Démarre l'application sans couche web sur une base H2 embarquée (mode MySQL). Les propriétés sont
+ * passées en arguments de ligne de commande : elles priment sur application.properties et les profils.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        String[] base = {
+                "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.r2dbc.url=r2dbc:h2:mem:///bench",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN"
+        };
+        String[] args = Stream.concat(Arrays.stream(base), Arrays.stream(extraProperties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(TpProjet2025Application.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+}
@@ -0,0 +1,82 @@
+package tn.esprit.tpprojet2025.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * add / contains / remove sur Equipe.projets et Projet.equipes pour un graphe bidirectionnel de
+ * 10 à 100 000 projets. Avec une égalité par identité le temps par opération ne doit pas varier
+ * avec {@code taille} ; un hashCode calculé sur le graphe le ferait croître (voire déborder la pile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityCollectionsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int taille;
+
+    private Equipe equipe;
+    private Projet present;
+    private Projet nouveau;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Entreprise entreprise = new Entreprise();
+        entreprise.setIdEntreprise(1L);
+        entreprise.setNom("Esprit");
+        entreprise.setEquipes(new HashSet<>());
+
+        equipe = new Equipe();
+        equipe.setIdEquipe(1L);
+        equipe.setNomEquipe("Equipe");
+        equipe.setEntreprise(entreprise);
+        equipe.setProjets(new HashSet<>());
+        entreprise.getEquipes().add(equipe);
+
+        for (int i = 0; i < taille; i++) {
+            Projet projet = projet(i);
+            lier(equipe, projet);
+            present = projet;
+        }
+        nouveau = projet(taille);
+        nouveau.getEquipes().add(equipe);
+    }
+
+    @Benchmark
+    public boolean contient() {
+        return equipe.getProjets().contains(present) & present.getEquipes().contains(equipe);
+    }
+
+    @Benchmark
+    public boolean ajouterPuisRetirer() {
+        boolean ajoute = equipe.getProjets().add(nouveau);
+        return ajoute & equipe.getProjets().remove(nouveau);
+    }
+
+    private static Projet projet(int i) {
+        ProjetDetail detail = new ProjetDetail();
+        detail.setIdProjetDetail((long) i);
+        detail.setDescription("Description " + i);
+        Projet projet = new Projet();
+        projet.setIdProjet((long) i);
+        projet.setNomProjet("Projet " + i);
+        projet.setProjetDetail(detail);
+        detail.setProjet(projet);
+        return projet;
+    }
+
+    private static void lier(Equipe equipe, Projet projet) {
+        equipe.getProjets().add(projet);
+        projet.getEquipes().add(equipe);
+    }
+}
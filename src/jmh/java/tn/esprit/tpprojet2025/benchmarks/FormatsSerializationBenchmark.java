@@ -0,0 +1,126 @@
+package tn.esprit.tpprojet2025.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON, CBOR et Smile pour List&lt;Projet&gt; et List&lt;Equipe&gt; : temps de sérialisation, avec et sans gzip
+ * (niveau par défaut, comme la compression Tomcat). Les tailles brute et compressée de chaque
+ * combinaison sont affichées au début de l'essai.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FormatsSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int taille;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"projets", "equipes"})
+    String liste;
+
+    private static final int EQUIPES_PAR_PROJET = 3;
+    private static final int PROJETS_PAR_EQUIPE = 5;
+
+    private ObjectMapper objectMapper;
+    private List<?> donnees;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            default -> JsonMapper.builder().findAndAddModules().build();
+        };
+        Entreprise entreprise = new Entreprise();
+        entreprise.setIdEntreprise(1L);
+        entreprise.setNom("Esprit");
+        entreprise.setAdresse("Ariana");
+        donnees = "equipes".equals(liste) ? equipes(entreprise) : projets(entreprise);
+
+        byte[] brut = serialiser();
+        System.out.printf("%n[%s %s x%d] %d octets, %d octets gzip%n",
+                format, liste, taille, brut.length, gzip(brut).length);
+    }
+
+    @Benchmark
+    public byte[] serialiser() throws IOException {
+        return objectMapper.writeValueAsBytes(donnees);
+    }
+
+    @Benchmark
+    public byte[] serialiserEtCompresser() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(donnees));
+    }
+
+    private List<Projet> projets(Entreprise entreprise) {
+        List<Projet> projets = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            Projet projet = projet(i);
+            for (int j = 0; j < EQUIPES_PAR_PROJET; j++) {
+                // Equipe.projets reste vide : le graphe d'entités est cyclique sinon
+                projet.getEquipes().add(equipe(j, entreprise));
+            }
+            projets.add(projet);
+        }
+        return projets;
+    }
+
+    private List<Equipe> equipes(Entreprise entreprise) {
+        List<Equipe> equipes = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            Equipe equipe = equipe(i, entreprise);
+            equipe.setProjets(new HashSet<>());
+            for (int j = 0; j < PROJETS_PAR_EQUIPE; j++) {
+                equipe.getProjets().add(projet(i * PROJETS_PAR_EQUIPE + j));
+            }
+            equipes.add(equipe);
+        }
+        return equipes;
+    }
+
+    private static Projet projet(int i) {
+        Projet projet = ProjetServicesBenchmark.newProjet(i);
+        projet.setIdProjet((long) i);
+        projet.getProjetDetail().setIdProjetDetail((long) i);
+        projet.setEquipes(new HashSet<>());
+        return projet;
+    }
+
+    private static Equipe equipe(int i, Entreprise entreprise) {
+        Equipe equipe = new Equipe();
+        equipe.setIdEquipe((long) i);
+        equipe.setNomEquipe("Equipe " + i);
+        equipe.setSpecialite("Web");
+        equipe.setEntreprise(entreprise);
+        return equipe;
+    }
+
+    private static byte[] gzip(byte[] donnees) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(donnees.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(donnees);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,72 @@
+package tn.esprit.tpprojet2025.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Services.GrapheEquipesServicesImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Parcours du graphe Entreprise → Equipe → Projet en mémoire : 10 équipes par entreprise,
+ * 5 projets par équipe tirés parmi {@code nbEquipes} projets (chaque projet est partagé par
+ * 5 équipes en moyenne). Le temps par parcours doit rester de l'ordre de la microseconde.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrapheEquipesBenchmark {
+
+    private static final int EQUIPES_PAR_ENTREPRISE = 10;
+    private static final int PROJETS_PAR_EQUIPE = 5;
+
+    @Param({"1000", "100000"})
+    int nbEquipes;
+
+    private GrapheEquipesServicesImpl graphe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object[]> entreprises = new ArrayList<>();
+        List<Object[]> projets = new ArrayList<>();
+        for (long idEquipe = 0; idEquipe < nbEquipes; idEquipe++) {
+            entreprises.add(new Object[]{idEquipe, idEquipe / EQUIPES_PAR_ENTREPRISE});
+            for (int i = 0; i < PROJETS_PAR_EQUIPE; i++) {
+                projets.add(new Object[]{idEquipe, random.nextLong(nbEquipes)});
+            }
+        }
+        EquipeRepository equipeRepository = mock(EquipeRepository.class);
+        when(equipeRepository.findEntrepriseIds()).thenReturn(entreprises);
+        when(equipeRepository.findProjetIds()).thenReturn(projets);
+
+        graphe = new GrapheEquipesServicesImpl();
+        ReflectionTestUtils.setField(graphe, "equipeRepository", equipeRepository);
+        graphe.reconstruire();
+    }
+
+    @Benchmark
+    public long[] projetsDeLEntreprise() {
+        return graphe.projetsDeLEntreprise(ThreadLocalRandom.current().nextLong(nbEquipes / EQUIPES_PAR_ENTREPRISE));
+    }
+
+    @Benchmark
+    public long[] equipesPartageantUnProjet() {
+        return graphe.equipesPartageantUnProjet(ThreadLocalRandom.current().nextLong(nbEquipes));
+    }
+
+    @Benchmark
+    public long[] entreprisesPartenaires() {
+        return graphe.entreprisesPartenaires(ThreadLocalRandom.current().nextLong(nbEquipes / EQUIPES_PAR_ENTREPRISE));
+    }
+}
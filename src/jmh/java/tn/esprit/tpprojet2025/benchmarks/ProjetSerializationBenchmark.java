@@ -0,0 +1,84 @@
+package tn.esprit.tpprojet2025.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Mappers.ProjetDetailMapperImpl;
+import tn.esprit.tpprojet2025.Mappers.ProjetMapper;
+import tn.esprit.tpprojet2025.Mappers.ProjetMapperImpl;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapperImpl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de sérialisation Jackson d'une liste de projets (avec détail et équipes) selon sa taille.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjetSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    int taille;
+
+    @Param({"3"})
+    int equipesParProjet;
+
+    private ObjectMapper objectMapper;
+    private ProjetMapper projetMapper;
+    private List<Projet> projets;
+    private List<ProjetDTO> projetDTOs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        // Implémentations générées par MapStruct, assemblées sans contexte Spring
+        projetMapper = new ProjetMapperImpl(new ProjetDetailMapperImpl(), new ResumeMapperImpl());
+        Entreprise entreprise = new Entreprise();
+        entreprise.setIdEntreprise(1L);
+        entreprise.setNom("Esprit");
+
+        projets = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            Projet projet = ProjetServicesBenchmark.newProjet(i);
+            projet.setIdProjet((long) i);
+            projet.getProjetDetail().setIdProjetDetail((long) i);
+            projet.setEquipes(new HashSet<>());
+            for (int j = 0; j < equipesParProjet; j++) {
+                // Equipe.projets reste vide : le graphe d'entités est cyclique sinon
+                Equipe equipe = new Equipe();
+                equipe.setIdEquipe((long) j);
+                equipe.setNomEquipe("Equipe " + j);
+                equipe.setEntreprise(entreprise);
+                projet.getEquipes().add(equipe);
+            }
+            projets.add(projet);
+        }
+        projetDTOs = projetMapper.toDTOs(projets);
+    }
+
+    @Benchmark
+    public byte[] serialiserEntites() throws Exception {
+        return objectMapper.writeValueAsBytes(projets);
+    }
+
+    @Benchmark
+    public byte[] serialiserDTOs() throws Exception {
+        return objectMapper.writeValueAsBytes(projetDTOs);
+    }
+
+    @Benchmark
+    public List<ProjetDTO> convertirEnDTOs() {
+        return projetMapper.toDTOs(projets);
+    }
+}
@@ -0,0 +1,116 @@
+package tn.esprit.tpprojet2025.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Services.IEquipeServices;
+import tn.esprit.tpprojet2025.Services.IProjetServices;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit des opérations CRUD et d'affectation de ProjetServicesImpl contre H2 embarqué, avec la
+ * configuration par défaut ou le profil {@code prod} (pool HikariCP et pilote MySQL réglés).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjetServicesBenchmark {
+
+    @Param({"1000"})
+    int nbProjets;
+
+    @Param({"default", "prod"})
+    String profil;
+
+    private ConfigurableApplicationContext context;
+    private IProjetServices projetServices;
+    private long[] projetIds;
+    private long idEquipe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("spring.profiles.active=" + profil);
+        projetServices = context.getBean(IProjetServices.class);
+        IEquipeServices equipeServices = context.getBean(IEquipeServices.class);
+
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Bench");
+        equipe.setProjets(new HashSet<>());
+        idEquipe = equipeServices.AjouterEquipe(equipe).getIdEquipe();
+
+        projetIds = new long[nbProjets];
+        for (int i = 0; i < nbProjets; i++) {
+            projetIds[i] = projetServices.AjouterProjet(newProjet(i)).getIdProjet();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return projetIds[ThreadLocalRandom.current().nextInt(projetIds.length)];
+    }
+
+    static Projet newProjet(int i) {
+        ProjetDetail detail = new ProjetDetail();
+        detail.setDescription("Description " + i);
+        detail.setTechnologie("Java");
+        detail.setCout(1000L + i);
+        detail.setDateDebut(LocalDate.of(2025, 1, 1));
+        Projet projet = new Projet();
+        projet.setNomProjet("Projet " + i);
+        projet.setTypeProjet(TypeProjet.values()[i % TypeProjet.values().length]);
+        projet.setProjetDetail(detail);
+        return projet;
+    }
+
+    @Benchmark
+    public Projet ajouterProjet() {
+        return projetServices.AjouterProjet(newProjet(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE)));
+    }
+
+    @Benchmark
+    public Projet afficherProjetSelonID() {
+        return projetServices.afficherProjetSelonID(randomId());
+    }
+
+    @Benchmark
+    public ProjetDTO afficherProjetDTOSelonID() {
+        return projetServices.afficherProjetDTOSelonID(randomId());
+    }
+
+    @Benchmark
+    public Projet modifierProjet() {
+        Projet projet = projetServices.afficherProjetSelonID(randomId());
+        projet.setNomProjet("Modifié " + System.nanoTime());
+        return projetServices.modifierProjet(projet);
+    }
+
+    @Benchmark
+    public void assignerPuisDesaffecter() {
+        long idProjet = randomId();
+        projetServices.assignProjetToEquipe(idProjet, idEquipe);
+        projetServices.UnassignProjetFromEquipe(idEquipe, idProjet);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<ProjetDTO> afficherListeProjetsDTO() {
+        return projetServices.afficherListeProjetsDTO();
+    }
+}
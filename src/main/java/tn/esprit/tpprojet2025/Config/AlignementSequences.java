@@ -0,0 +1,59 @@
+package tn.esprit.tpprojet2025.Config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cale les séquences émulées par table au-dessus des identifiants déjà en base. MySQL n'a pas de
+ * séquences : Hibernate crée des tables {@code *_seq} qui partent de 1, alors qu'une base remplie du
+ * temps des identifiants IDENTITY contient déjà ces clés ; le premier bloc réservé entrerait en collision.
+ * <p>
+ * Exécuté au démarrage, avant toute écriture : la valeur suivante devient {@code max(id) + taille du bloc},
+ * soit un premier identifiant {@code max(id) + 1}. La mise à jour ne fait que monter la valeur : plusieurs
+ * instances peuvent démarrer ensemble, et une séquence déjà en avance n'est pas touchée. Les bases à
+ * séquences natives (H2 des tests) ne sont pas concernées.
+ */
+@Component
+public class AlignementSequences {
+
+    private static final Logger log = LoggerFactory.getLogger(AlignementSequences.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void aligner() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel().forEachEntityDescriptor(entite -> {
+            if (entite.getGenerator() instanceof SequenceStyleGenerator generateur
+                    && generateur.getDatabaseStructure() instanceof TableStructure sequence
+                    && entite instanceof AbstractEntityPersister persister) {
+                aligner(sequence.getPhysicalName().render(), sequence.getIncrementSize(),
+                        persister.getIdentifierTableName(), persister.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+
+    private void aligner(String sequence, int taille, String table, String colonne) {
+        Long max = jdbcTemplate.queryForObject("select max(" + colonne + ") from " + table, Long.class);
+        if (max == null) {
+            return;
+        }
+        long suivante = max + taille;
+        if (jdbcTemplate.update("update " + sequence + " set " + SequenceStyleGenerator.DEF_VALUE_COLUMN + " = ? where "
+                + SequenceStyleGenerator.DEF_VALUE_COLUMN + " < ?", suivante, suivante) > 0) {
+            log.info("Séquence {} calée sur {} (max({}.{}) = {})", sequence, suivante, table, colonne, max);
+        }
+    }
+}
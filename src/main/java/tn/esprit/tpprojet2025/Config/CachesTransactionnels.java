@@ -0,0 +1,25 @@
+package tn.esprit.tpprojet2025.Config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches applicatifs alignés sur les transactions : dans un service {@code @Transactional}, les put et
+ * evict ne s'appliquent qu'après le commit (immédiatement hors transaction). Sinon un {@code @CacheEvict}
+ * passerait avant le commit et une lecture concurrente remettrait en cache l'état qui va être remplacé.
+ * <p>
+ * Le gestionnaire Caffeine de Spring Boot est conservé (noms et spec de {@code spring.cache.*}) et enveloppé.
+ */
+@Component
+public class CachesTransactionnels implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CaffeineCacheManager cacheManager) {
+            return new TransactionAwareCacheManagerProxy(cacheManager);
+        }
+        return bean;
+    }
+}
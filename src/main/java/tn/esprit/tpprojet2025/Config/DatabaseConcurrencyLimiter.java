@@ -0,0 +1,93 @@
+package tn.esprit.tpprojet2025.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * En mode threads virtuels, Tomcat n'a plus de plafond de threads : sans limite, des milliers de
+ * requêtes se disputeraient les connexions HikariCP et expireraient dans le pool.
+ * Ce filtre borne les requêtes en cours au nombre de connexions disponibles (pool primaire et, si elle
+ * est configurée, réplique) ; les autres attendent sur un sémaphore équitable (une attente peu coûteuse
+ * pour un thread virtuel) puis reçoivent 503. Les routes servies sans connexion JDBC (graphe et
+ * statistiques en mémoire, lectures R2DBC, documentation) ne prennent pas de place.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseConcurrencyLimiter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final List<String> routesSansBase;
+
+    // Par défaut, la taille réelle des pools : les beans reçus sont initialisés, HikariPoolSizing les a déjà dimensionnés
+    @Autowired
+    public DatabaseConcurrencyLimiter(@Value("${app.concurrency.db-permits:0}") int permits,
+                                      @Value("${app.concurrency.acquire-timeout:5s}") Duration acquireTimeout,
+                                      @Value("${app.concurrency.routes-sans-base:/actuator}") List<String> routesSansBase,
+                                      @Qualifier("primaireDataSource") HikariDataSource pool,
+                                      @Qualifier("repliqueDataSource") ObjectProvider<HikariDataSource> replique,
+                                      MeterRegistry meterRegistry) {
+        this(permits > 0 ? permits : pool.getMaximumPoolSize()
+                        + replique.stream().mapToInt(HikariDataSource::getMaximumPoolSize).sum(),
+                acquireTimeout, routesSansBase, meterRegistry);
+    }
+
+    DatabaseConcurrencyLimiter(int maxInFlight, Duration acquireTimeout, List<String> routesSansBase, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.routesSansBase = List.copyOf(routesSansBase);
+        Gauge.builder("app.concurrency.db.waiting", permits, Semaphore::getQueueLength)
+                .description("Requêtes en attente d'une place côté base de données")
+                .register(meterRegistry);
+        Gauge.builder("app.concurrency.db.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String route = request.getRequestURI().substring(request.getContextPath().length());
+        return routesSansBase.stream().anyMatch(route::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Trop de requêtes simultanées");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
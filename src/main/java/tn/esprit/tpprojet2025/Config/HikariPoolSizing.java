@@ -0,0 +1,43 @@
+package tn.esprit.tpprojet2025.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Profil prod : dimensionne les pools HikariCP quand {@code maximum-pool-size} n'est pas fixé.
+ * Au-delà de 2 x coeurs + 1 connexions, les requêtes se disputent le CPU au lieu d'attendre la base ;
+ * l'ensemble des instances ne doit pas non plus dépasser la part de {@code max_connections} MySQL
+ * réservée à l'application. Chaque pool (primaire, réplique) est calculé à part, contre la part du
+ * serveur qu'il interroge : {@code app.db.pool.<nom du pool>.connexions-max}, à défaut
+ * {@code app.db.pool.connexions-max}.
+ */
+@Component
+@Profile("prod")
+public class HikariPoolSizing implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public HikariPoolSizing(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+                && !environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+            int connexionsMax = environment.getProperty("app.db.pool." + dataSource.getPoolName() + ".connexions-max", Integer.class,
+                    environment.getProperty("app.db.pool.connexions-max", Integer.class, 150));
+            int instances = environment.getProperty("app.db.pool.instances", Integer.class, 1);
+            dataSource.setMaximumPoolSize(taille(Runtime.getRuntime().availableProcessors(), connexionsMax, instances));
+        }
+        return bean;
+    }
+
+    static int taille(int coeurs, int connexionsMax, int instances) {
+        int parInstance = Math.max(1, connexionsMax / Math.max(1, instances));
+        return Math.min(2 * coeurs + 1, parInstance);
+    }
+}
@@ -0,0 +1,26 @@
+package tn.esprit.tpprojet2025.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pool JDBC de l'application, déclaré explicitement : avec la {@code ConnectionFactory} R2DBC
+ * du chemin de lecture réactif dans le contexte, la configuration automatique de Spring Boot
+ * ne crée plus de DataSource, et JPA n'aurait rien à utiliser.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class JdbcDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaireDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primaire");
+        return dataSource;
+    }
+}
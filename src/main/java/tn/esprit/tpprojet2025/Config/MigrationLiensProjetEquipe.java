@@ -0,0 +1,70 @@
+package tn.esprit.tpprojet2025.Config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+import static tn.esprit.tpprojet2025.Entities.Equipe.*;
+
+/**
+ * Reprise de l'ancienne table de jointure de {@code Projet.equipes}. Tant que les deux côtés de la relation
+ * étaient propriétaires, les liens écrits depuis un projet allaient dans {@code projet_equipes} ; depuis que
+ * {@code Projet.equipes} est le côté inverse de {@code Equipe.projets}, seule {@code equipe_projets} est lue.
+ * <p>
+ * Au démarrage, avant les chargements des statistiques et du graphe des équipes, les liens absents de
+ * {@code equipe_projets} y sont recopiés puis l'ancienne table est supprimée ({@code ddl-auto=update} ne le fait
+ * pas). La copie ignore les liens déjà présents : une reprise interrompue se termine au démarrage suivant.
+ */
+@Component
+// Schéma mis à jour par Hibernate avant la reprise
+@DependsOn("entityManagerFactory")
+public class MigrationLiensProjetEquipe {
+
+    static final String ANCIENNE_TABLE = "projet_equipes";
+    static final String ANCIENNE_COLONNE_PROJET = "projet_id_projet";
+    static final String ANCIENNE_COLONNE_EQUIPE = "equipes_id_equipe";
+
+    private static final String COPIER_LIENS =
+            "insert into " + PROJETS_JOIN_TABLE + " (" + PROJETS_JOIN_EQUIPE_COLUMN + ", " + PROJETS_JOIN_PROJET_COLUMN + ") "
+                    + "select distinct a." + ANCIENNE_COLONNE_EQUIPE + ", a." + ANCIENNE_COLONNE_PROJET + " from " + ANCIENNE_TABLE + " a "
+                    + "where not exists (select 1 from " + PROJETS_JOIN_TABLE + " l where l." + PROJETS_JOIN_EQUIPE_COLUMN
+                    + " = a." + ANCIENNE_COLONNE_EQUIPE + " and l." + PROJETS_JOIN_PROJET_COLUMN + " = a." + ANCIENNE_COLONNE_PROJET + ")";
+
+    private static final Logger log = LoggerFactory.getLogger(MigrationLiensProjetEquipe.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void migrer() {
+        if (!ancienneTableExiste()) {
+            return;
+        }
+        int copies = jdbcTemplate.update(COPIER_LIENS);
+        jdbcTemplate.execute("drop table " + ANCIENNE_TABLE);
+        log.info("Table {} reprise dans {} : {} lien(s) copié(s)", ANCIENNE_TABLE, PROJETS_JOIN_TABLE, copies);
+    }
+
+    // Casse des noms selon la base : minuscules pour MySQL, majuscules pour H2
+    private boolean ancienneTableExiste() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connexion -> {
+            DatabaseMetaData metadonnees = connexion.getMetaData();
+            for (String nom : new String[]{ANCIENNE_TABLE, ANCIENNE_TABLE.toUpperCase()}) {
+                try (ResultSet tables = metadonnees.getTables(connexion.getCatalog(), null, nom, new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,32 @@
+package tn.esprit.tpprojet2025.Config;
+
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Analyseurs de l'index plein texte des projets (hibernate.search.backend.analysis.configurer).
+ * Les accents et la casse sont neutralisés à l'indexation comme à la recherche.
+ */
+public class RechercheAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    /** Mots entiers : correspondance exacte et approchée (fuzzy). */
+    public static final String TEXTE = "texte";
+
+    /** Préfixes de 2 à 20 caractères de chaque mot, interrogés avec {@link #TEXTE}. */
+    public static final String PREFIXE = "prefixe";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(TEXTE).custom()
+                .tokenizer("standard")
+                .tokenFilter("lowercase")
+                .tokenFilter("asciiFolding");
+        context.analyzer(PREFIXE).custom()
+                .tokenizer("standard")
+                .tokenFilter("lowercase")
+                .tokenFilter("asciiFolding")
+                .tokenFilter("edgeNGram")
+                .param("minGramSize", "2")
+                .param("maxGramSize", "20");
+    }
+}
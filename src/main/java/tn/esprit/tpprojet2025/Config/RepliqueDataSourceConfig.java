@@ -0,0 +1,53 @@
+package tn.esprit.tpprojet2025.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Réplique en lecture, active si {@code app.datasource.replica.url} est renseignée : un second pool
+ * (mêmes réglages {@code spring.datasource.hikari.*}) s'ajoute au pool primaire de
+ * {@link JdbcDataSourceConfig} derrière une source de données de routage. JPA, JdbcTemplate et
+ * les repositories n'en voient qu'une.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class RepliqueDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource repliqueDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("app.datasource.replica.url"))
+                .username(environment.getProperty("app.datasource.replica.username", properties.determineUsername()))
+                .password(environment.getProperty("app.datasource.replica.password", properties.determinePassword()))
+                .build();
+        dataSource.setPoolName("replique");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaireDataSource") DataSource primaire,
+                                 @Qualifier("repliqueDataSource") DataSource replique) {
+        RoutageLectureEcritureDataSource routage = new RoutageLectureEcritureDataSource();
+        routage.setTargetDataSources(Map.of(
+                RoutageLectureEcritureDataSource.Cible.PRIMAIRE, primaire,
+                RoutageLectureEcritureDataSource.Cible.REPLIQUE, replique));
+        routage.setDefaultTargetDataSource(primaire);
+        routage.afterPropertiesSet();
+        // Connexion réelle prise à la première requête SQL, quand le caractère readOnly de la transaction est connu
+        return new LazyConnectionDataSourceProxy(routage);
+    }
+}
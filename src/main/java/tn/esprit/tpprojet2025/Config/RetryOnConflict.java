@@ -0,0 +1,24 @@
+package tn.esprit.tpprojet2025.Config;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.*;
+
+/**
+ * Rejoue la méthode (et donc sa transaction, l'intercepteur de retry étant placé autour)
+ * sur conflit de version ou verrou non obtenu, avec un backoff exponentiel aléatoire borné.
+ * Ne convient qu'aux lecture-modification-écriture faites dans la méthode : rejouer un merge
+ * d'une entité reçue du client échouerait à l'identique.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = {OptimisticLockingFailureException.class, PessimisticLockingFailureException.class},
+        maxAttempts = RetryOnConflict.MAX_ATTEMPTS,
+        backoff = @Backoff(delay = 10, maxDelay = 200, multiplier = 2, random = true))
+public @interface RetryOnConflict {
+    int MAX_ATTEMPTS = 5;
+}
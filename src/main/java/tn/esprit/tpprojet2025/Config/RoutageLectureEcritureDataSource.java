@@ -0,0 +1,37 @@
+package tn.esprit.tpprojet2025.Config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Route les transactions {@code readOnly} vers la réplique et tout le reste vers la base primaire.
+ * Après une écriture, les lectures de la même requête HTTP restent sur la primaire : la réplique,
+ * répliquée en asynchrone, pourrait ne pas encore voir la ligne écrite. Seule une transaction
+ * réelle en lecture-écriture compte comme écriture : les lectures hors transaction (JdbcTemplate des
+ * empreintes, par exemple) vont sur la primaire sans rendre la requête collante.
+ * <p>
+ * Doit être enveloppée dans un {@code LazyConnectionDataSourceProxy} : la clé n'est connue qu'une
+ * fois la transaction démarrée, après l'ouverture de la session Hibernate.
+ */
+public class RoutageLectureEcritureDataSource extends AbstractRoutingDataSource {
+
+    public enum Cible { PRIMAIRE, REPLIQUE }
+
+    private static final String ECRITURE = RoutageLectureEcritureDataSource.class.getName() + ".ECRITURE";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        RequestAttributes requete = RequestContextHolder.getRequestAttributes();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            boolean apresEcriture = requete != null
+                    && requete.getAttribute(ECRITURE, RequestAttributes.SCOPE_REQUEST) != null;
+            return apresEcriture ? Cible.PRIMAIRE : Cible.REPLIQUE;
+        }
+        if (requete != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            requete.setAttribute(ECRITURE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Cible.PRIMAIRE;
+    }
+}
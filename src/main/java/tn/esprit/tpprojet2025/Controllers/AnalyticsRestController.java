@@ -0,0 +1,57 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import tn.esprit.tpprojet2025.DTO.CoutMensuelDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEquipeDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.DTO.StatistiquesProjetsDTO;
+import tn.esprit.tpprojet2025.Services.IAnalyticsServices;
+import tn.esprit.tpprojet2025.Services.IStatistiquesProjetsServices;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/Analytics")
+@Tag(name = "Analyse des coûts")
+public class AnalyticsRestController {
+
+    @Autowired
+    private IAnalyticsServices analyticsServices;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Operation(description = "Nombre de projets par type et par équipe, coût total (compteurs en mémoire, sans accès base)")
+    @GetMapping("/getStatistiquesProjets")
+    StatistiquesProjetsDTO getStatistiquesProjets() {return statistiquesProjets.afficherStatistiques();}
+
+    @Operation(description = "Total, moyenne et maximum des coûts par type de projet")
+    @GetMapping("/getCoutsParType")
+    List<CoutParTypeDTO> getCoutsParType() {return analyticsServices.afficherCoutsParType();}
+
+    @Operation(description = "Total, moyenne et maximum des coûts par équipe")
+    @GetMapping("/getCoutsParEquipe")
+    List<CoutParEquipeDTO> getCoutsParEquipe() {return analyticsServices.afficherCoutsParEquipe();}
+
+    @Operation(description = "Total, moyenne et maximum des coûts par entreprise")
+    @GetMapping("/getCoutsParEntreprise")
+    List<CoutParEntrepriseDTO> getCoutsParEntreprise() {return analyticsServices.afficherCoutsParEntreprise();}
+
+    @Operation(description = "Total, moyenne et maximum des coûts par mois de début")
+    @GetMapping("/getCoutsMensuels")
+    List<CoutMensuelDTO> getCoutsMensuels() {return analyticsServices.afficherCoutsMensuels();}
+
+    @Operation(description = "Coûts par type lus depuis la table de synthèse")
+    @GetMapping("/getResumeParType")
+    List<CoutParTypeDTO> getResumeParType() {return analyticsServices.afficherResumeParType();}
+
+    @Operation(description = "Reconstruction complète de la table de synthèse")
+    @PostMapping("/reconstruireResume")
+    void reconstruireResume() {analyticsServices.reconstruireResume();}
+}
@@ -0,0 +1,32 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tn.esprit.tpprojet2025.DTO.CacheRegionStatsDTO;
+import tn.esprit.tpprojet2025.DTO.CacheStatsDTO;
+import tn.esprit.tpprojet2025.Services.ICacheServices;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/Cache")
+@Tag(name = "Caches")
+public class CacheRestController {
+
+    @Autowired
+    private ICacheServices cacheServices;
+
+    @Operation(description = "Statistiques hit/miss par région du cache de second niveau")
+    @GetMapping("/getStatistiques")
+    List<CacheRegionStatsDTO> getStatistiques() {return cacheServices.afficherStatistiquesCache();}
+
+    @Operation(description = "Statistiques hit/miss des caches applicatifs (vues DTO par ID)")
+    @GetMapping("/getStatistiquesServices")
+    List<CacheStatsDTO> getStatistiquesServices() {return cacheServices.afficherStatistiquesCacheServices();}
+}
@@ -4,9 +4,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tn.esprit.tpprojet2025.DTO.EntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.EntrepriseEcritureDTO;
+import tn.esprit.tpprojet2025.DTO.EntrepriseSummaryDTO;
+import tn.esprit.tpprojet2025.DTO.Vue;
 import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Mappers.EntrepriseMapper;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapper;
+import tn.esprit.tpprojet2025.Services.IEmpreintesServices;
 import tn.esprit.tpprojet2025.Services.IEntrepriseServices;
+import tn.esprit.tpprojet2025.Services.KeysetPage;
 
 import java.util.List;
 
@@ -19,21 +29,66 @@ public class EntrepriseRestController {
     @Autowired
     private IEntrepriseServices entrepriseService;
 
+    @Autowired
+    private IEmpreintesServices empreintes;
+
+    @Autowired
+    private ReponsesConditionnelles conditionnel;
+
+    @Autowired
+    private EntrepriseMapper entrepriseMapper;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
     @Operation(description = "Ajout d'une entreprise")
     @PostMapping("/addEntreprise")
-    Entreprise addEntreprise(@RequestBody Entreprise entreprise) {return entrepriseService.AjouterEntreprise(entreprise);}
+    EntrepriseDTO addEntreprise(@RequestBody EntrepriseEcritureDTO entreprise) {
+        Entreprise ajoutee = entrepriseService.AjouterEntreprise(entrepriseMapper.toEntity(entreprise));
+        return entrepriseService.afficherEntrepriseDTOSelonID(ajoutee.getIdEntreprise());
+    }
 
-    @Operation(description = "Affichage des entreprises")
+    @Operation(description = "Ajout en masse d'entreprises (réponse en vue résumée)")
+    @PostMapping("/addEntreprises/bulk")
+    List<EntrepriseSummaryDTO> addEntreprises(@RequestBody List<EntrepriseEcritureDTO> entreprises) {
+        return resumeMapper.entreprisesResume(entrepriseService.AjouterEntreprises(entrepriseMapper.toEntities(entreprises)));
+    }
+
+    @Operation(description = "Affichage des entreprises (vue=RESUME ou COMPLET)")
     @GetMapping("/getAllEntreprises")
-    List<Entreprise> getALlEntreprises(){return entrepriseService.afficherListeEntreprise();}
+    ResponseEntity<List<?>> getALlEntreprises(@RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue, WebRequest request){
+        return conditionnel.repondre(request, "entreprises", vue + ":" + empreintes.empreinteEntreprises(),
+                () -> vue == Vue.RESUME ? entrepriseService.afficherListeEntreprisesResume() : entrepriseService.afficherListeEntrepriseDTO());
+    }
+
+    @Operation(description = "Affichage paginé des entreprises (pagination par curseur, vue=RESUME ou COMPLET)")
+    @GetMapping("/getEntreprisesPage")
+    ResponseEntity<KeysetPage<?>> getEntreprisesPage(@RequestParam(value = "pageToken", required = false) String pageToken,
+                                                     @RequestParam(value = "size", defaultValue = "50") int size,
+                                                     @RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue,
+                                                     WebRequest request) {
+        return conditionnel.repondre(request, "entreprises", vue + ":" + empreintes.empreinteGlobale(),
+                () -> vue == Vue.RESUME ? entrepriseService.afficherPageEntreprisesResume(pageToken, size)
+                        : entrepriseService.afficherPageEntreprisesDTO(pageToken, size));
+    }
 
-    @Operation(description = "Affichage d'une entreprise selon l'ID")
+    @Operation(description = "Affichage d'une entreprise selon l'ID (vue=RESUME ou COMPLET)")
     @GetMapping("/getEntrepriseById/{idE}")
-    Entreprise getEntrepriseById(@PathVariable("idE") long idEntreprise) {return entrepriseService.afficherEntrepriseSelonID(idEntreprise);}
+    ResponseEntity<Object> getEntrepriseById(@PathVariable("idE") long idEntreprise,
+                                             @RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue,
+                                             WebRequest request) {
+        return conditionnel.repondre(request, "entreprise", empreintes.empreinteEntreprise(idEntreprise).map(e -> vue + ":" + e),
+                () -> vue == Vue.RESUME ? entrepriseService.afficherEntrepriseResumeSelonID(idEntreprise)
+                        : entrepriseService.afficherEntrepriseDTOSelonID(idEntreprise));
+    }
 
-    @Operation(description = "Modification d'une entreprise")
+    @Operation(description = "Modification d'une entreprise (version obligatoire, équipes inchangées)")
     @PutMapping("/updateEntreprise")
-    Entreprise updateEntreprise( @RequestBody Entreprise entreprise) {return entrepriseService.modifierEntreprise(entreprise);}
+    EntrepriseDTO updateEntreprise( @RequestBody EntrepriseEcritureDTO entreprise) {
+        Entreprise existante = entrepriseService.afficherEntrepriseSelonID(entreprise.idEntreprise());
+        entrepriseService.modifierEntreprise(entrepriseMapper.modifier(entreprise, existante));
+        return entrepriseService.afficherEntrepriseDTOSelonID(entreprise.idEntreprise());
+    }
 
     @Operation(description = "Suppression d'une entreprise ")
     @DeleteMapping("/deleteEntreprise/{idE}")
@@ -4,9 +4,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tn.esprit.tpprojet2025.DTO.EquipeDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeEcritureDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO;
+import tn.esprit.tpprojet2025.DTO.Vue;
 import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Mappers.EquipeMapper;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapper;
+import tn.esprit.tpprojet2025.Services.IEmpreintesServices;
 import tn.esprit.tpprojet2025.Services.IEquipeServices;
+import tn.esprit.tpprojet2025.Services.KeysetPage;
 
 import java.util.List;
 
@@ -19,21 +29,65 @@ public class EquipeRestController {
     @Autowired
     IEquipeServices equipeService;
 
+    @Autowired
+    IEmpreintesServices empreintes;
+
+    @Autowired
+    ReponsesConditionnelles conditionnel;
+
+    @Autowired
+    EquipeMapper equipeMapper;
+
+    @Autowired
+    ResumeMapper resumeMapper;
+
     @Operation(description = "Ajout d'une équipe")
     @PostMapping("/addEquipe")
-    Equipe addEquipe(@RequestBody Equipe equipe) {return equipeService.AjouterEquipe(equipe);}
+    EquipeDTO addEquipe(@RequestBody EquipeEcritureDTO equipe) {
+        return equipeService.afficherEquipeDTOSelonID(equipeService.AjouterEquipe(equipeMapper.toEntity(equipe)).getIdEquipe());
+    }
 
-    @Operation(description = "Affichage des équipes")
+    @Operation(description = "Ajout en masse d'équipes (réponse en vue résumée)")
+    @PostMapping("/addEquipes/bulk")
+    List<EquipeSummaryDTO> addEquipes(@RequestBody List<EquipeEcritureDTO> equipes) {
+        return resumeMapper.equipesResume(equipeService.AjouterEquipes(equipeMapper.toEntities(equipes)));
+    }
+
+    @Operation(description = "Affichage des équipes (vue=RESUME ou COMPLET)")
     @GetMapping("/getAllEquipes")
-    List<Equipe> getALlEquipes(){return equipeService.afficherListeEquipes();}
+    ResponseEntity<List<?>> getALlEquipes(@RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue, WebRequest request){
+        return conditionnel.repondre(request, "equipes", vue + ":" + empreintes.empreinteEquipes(),
+                () -> vue == Vue.RESUME ? equipeService.afficherListeEquipesResume() : equipeService.afficherListeEquipesDTO());
+    }
+
+    @Operation(description = "Affichage paginé des équipes (pagination par curseur, vue=RESUME ou COMPLET)")
+    @GetMapping("/getEquipesPage")
+    ResponseEntity<KeysetPage<?>> getEquipesPage(@RequestParam(value = "pageToken", required = false) String pageToken,
+                                                 @RequestParam(value = "size", defaultValue = "50") int size,
+                                                 @RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue,
+                                                 WebRequest request) {
+        return conditionnel.repondre(request, "equipes", vue + ":" + empreintes.empreinteGlobale(),
+                () -> vue == Vue.RESUME ? equipeService.afficherPageEquipesResume(pageToken, size)
+                        : equipeService.afficherPageEquipesDTO(pageToken, size));
+    }
 
-    @Operation(description = "Affichage d'une équipe selon l'ID")
+    @Operation(description = "Affichage d'une équipe selon l'ID (vue=RESUME ou COMPLET)")
     @GetMapping("/getEquipeById/{idEq}")
-    Equipe getEquipeById(@PathVariable("idEq") long idEquipe) {return equipeService.afficherEquipeSelonID(idEquipe);}
+    ResponseEntity<Object> getEquipeById(@PathVariable("idEq") long idEquipe,
+                                         @RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue,
+                                         WebRequest request) {
+        return conditionnel.repondre(request, "equipe", empreintes.empreinteEquipe(idEquipe).map(e -> vue + ":" + e),
+                () -> vue == Vue.RESUME ? equipeService.afficherEquipeResumeSelonID(idEquipe)
+                        : equipeService.afficherEquipeDTOSelonID(idEquipe));
+    }
 
-    @Operation(description = "Modification d'une équipe")
+    @Operation(description = "Modification d'une équipe (version obligatoire, projets inchangés)")
     @PutMapping("/updateEquipe")
-    Equipe updateEquipe( @RequestBody Equipe equipe ) {return equipeService.modifierEquipe(equipe);}
+    EquipeDTO updateEquipe( @RequestBody EquipeEcritureDTO equipe ) {
+        Equipe existante = equipeService.afficherEquipeSelonID(equipe.idEquipe());
+        equipeService.modifierEquipe(equipeMapper.modifier(equipe, existante));
+        return equipeService.afficherEquipeDTOSelonID(equipe.idEquipe());
+    }
 
     @Operation(description = "Suppression d'une équipe")
     @DeleteMapping("/deleteEquipe/{idEq}")
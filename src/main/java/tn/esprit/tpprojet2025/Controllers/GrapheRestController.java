@@ -0,0 +1,38 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import tn.esprit.tpprojet2025.Services.IGrapheEquipesServices;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/Graphe")
+@Tag(name = "Graphe Entreprises / Equipes / Projets")
+public class GrapheRestController {
+
+    @Autowired
+    private IGrapheEquipesServices grapheEquipes;
+
+    @Operation(description = "Identifiants des projets des équipes d'une entreprise (index en mémoire, sans accès base)")
+    @GetMapping("/getProjetsEntreprise/{idE}")
+    long[] getProjetsEntreprise(@PathVariable("idE") long idE) {return grapheEquipes.projetsDeLEntreprise(idE);}
+
+    @Operation(description = "Identifiants des équipes affectées à un projet")
+    @GetMapping("/getEquipesProjet/{idP}")
+    long[] getEquipesProjet(@PathVariable("idP") long idP) {return grapheEquipes.equipesDuProjet(idP);}
+
+    @Operation(description = "Identifiants des autres équipes partageant au moins un projet avec une équipe")
+    @GetMapping("/getEquipesPartenaires/{idEq}")
+    long[] getEquipesPartenaires(@PathVariable("idEq") long idEq) {return grapheEquipes.equipesPartageantUnProjet(idEq);}
+
+    @Operation(description = "Identifiants des autres entreprises dont une équipe partage un projet avec l'entreprise")
+    @GetMapping("/getEntreprisesPartenaires/{idE}")
+    long[] getEntreprisesPartenaires(@PathVariable("idE") long idE) {return grapheEquipes.entreprisesPartenaires(idE);}
+
+    @Operation(description = "Rechargement complet du graphe depuis la base")
+    @PostMapping("/reconstruire")
+    void reconstruire() {grapheEquipes.reconstruire();}
+}
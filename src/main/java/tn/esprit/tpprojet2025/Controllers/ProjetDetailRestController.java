@@ -5,9 +5,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import org.springframework.web.context.request.WebRequest;
+import tn.esprit.tpprojet2025.DTO.ProjetDetailDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetDetailEcritureDTO;
+import tn.esprit.tpprojet2025.Mappers.ProjetDetailMapper;
+import tn.esprit.tpprojet2025.Services.IEmpreintesServices;
 import tn.esprit.tpprojet2025.Services.IProjetDetailServices;
+import tn.esprit.tpprojet2025.Services.KeysetPage;
 
 import java.util.List;
 
@@ -20,23 +26,57 @@ public class ProjetDetailRestController {
     @Autowired
     private IProjetDetailServices projetDetailServices;
 
+    @Autowired
+    private IEmpreintesServices empreintes;
+
+    @Autowired
+    private ReponsesConditionnelles conditionnel;
+
+    @Autowired
+    private ProjetDetailMapper projetDetailMapper;
+
     @Operation(description = "Ajout d'un projet détail")
     @PostMapping("/addProjetDetail")
-    ProjetDetail addProjetDetail(@RequestBody ProjetDetail projetDetail) {return projetDetailServices.AjouterProjetDetail(projetDetail);}
+    ProjetDetailDTO addProjetDetail(@RequestBody ProjetDetailEcritureDTO projetDetail) {
+        return projetDetailMapper.toDTO(projetDetailServices.AjouterProjetDetail(projetDetailMapper.toEntity(projetDetail)));
+    }
+
+    @Operation(description = "Ajout en masse de projets détails")
+    @PostMapping("/addProjetDetails/bulk")
+    List<ProjetDetailDTO> addProjetDetails(@RequestBody List<ProjetDetailEcritureDTO> projetDetails) {
+        return projetDetailMapper.toDTOs(projetDetailServices.AjouterProjetDetails(projetDetailMapper.toEntities(projetDetails)));
+    }
 
     @Operation(description = "Affichage des projets détails")
     @GetMapping("/getAllProjetsDetail")
-    List<ProjetDetail> getALlProjetDetails(){
-        return projetDetailServices.afficherListeProjetDetail();
+    ResponseEntity<List<ProjetDetailDTO>> getALlProjetDetails(WebRequest request){
+        return conditionnel.repondre(request, "projetDetails", empreintes.empreinteProjetDetails(),
+                projetDetailServices::afficherListeProjetDetailDTO);
+    }
+
+    @Operation(description = "Affichage paginé des projets détails (pagination par curseur)")
+    @GetMapping("/getProjetsDetailPage")
+    ResponseEntity<KeysetPage<ProjetDetailDTO>> getProjetDetailsPage(@RequestParam(value = "pageToken", required = false) String pageToken,
+                                                                     @RequestParam(value = "size", defaultValue = "50") int size,
+                                                                     WebRequest request) {
+        return conditionnel.repondre(request, "projetDetails", empreintes.empreinteGlobale(),
+                () -> projetDetailServices.afficherPageProjetDetailsDTO(pageToken, size));
     }
 
     @Operation(description = "Affichage d'un projet détail selon l'ID")
     @GetMapping("/getProjetDetailById/{idProjetD}")
-    ProjetDetail getProjetDetailById(@PathVariable("idProjetD") long idProjetDetail) {return projetDetailServices.afficherProjetDetailSelonID(idProjetDetail);}
+    ResponseEntity<ProjetDetailDTO> getProjetDetailById(@PathVariable("idProjetD") long idProjetDetail, WebRequest request) {
+        return conditionnel.repondre(request, "projetDetail", empreintes.empreinteProjetDetail(idProjetDetail),
+                () -> projetDetailServices.afficherProjetDetailDTOSelonID(idProjetDetail));
+    }
 
-    @Operation(description = "Modification d'un projet détail")
+    @Operation(description = "Modification d'un projet détail (version obligatoire)")
     @PutMapping("/updateProjetDetail")
-    ProjetDetail updateProjetDetail( @RequestBody ProjetDetail projetDetail) {return projetDetailServices.modifierProjetDetail(projetDetail);}
+    ProjetDetailDTO updateProjetDetail( @RequestBody ProjetDetailEcritureDTO projetDetail) {
+        projetDetailServices.modifierProjetDetail(projetDetailMapper.modifier(projetDetail,
+                projetDetailServices.afficherProjetDetailSelonID(projetDetail.idProjetDetail())));
+        return projetDetailServices.afficherProjetDetailDTOSelonID(projetDetail.idProjetDetail());
+    }
 
     @Operation(description = "Suppression d'un projet détail")
     @DeleteMapping("/deleteProjetDetail/{idProjetD}")
@@ -2,12 +2,35 @@ package tn.esprit.tpprojet2025.Controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tn.esprit.tpprojet2025.DTO.IngestionStatutDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetEcritureDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetEquipeLinkDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetFiltreDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetRechercheDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetSummaryDTO;
+import tn.esprit.tpprojet2025.DTO.Vue;
 import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Mappers.ProjetMapper;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapper;
+import tn.esprit.tpprojet2025.Services.IEmpreintesServices;
+import tn.esprit.tpprojet2025.Services.IIngestionProjetsServices;
 import tn.esprit.tpprojet2025.Services.IProjetServices;
+import tn.esprit.tpprojet2025.Services.IRechercheProjetsServices;
+import tn.esprit.tpprojet2025.Services.KeysetPage;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -16,27 +39,114 @@ import java.util.List;
 @Tag(name = "Gestion Projets")
 public class ProjetRestController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    // Un export en streaming peut durer plusieurs minutes : délai propre à cette requête,
+    // les autres requêtes asynchrones gardent celui du conteneur
+    static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(30);
+
     @Autowired
     private IProjetServices projetServices;
 
+    @Autowired
+    private IIngestionProjetsServices ingestionProjets;
+
+    @Autowired
+    private IRechercheProjetsServices rechercheProjets;
+
+    @Autowired
+    private IEmpreintesServices empreintes;
+
+    @Autowired
+    private ReponsesConditionnelles conditionnel;
+
+    @Autowired
+    private ProjetMapper projetMapper;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
     @Operation(description = "Ajout d'un projet")
     @PostMapping("/addProjet")
-    Projet addProjet(@RequestBody Projet projet) {return projetServices.AjouterProjet(projet);}
+    ProjetDTO addProjet(@RequestBody ProjetEcritureDTO projet) {
+        return projetServices.afficherProjetDTOSelonID(projetServices.AjouterProjet(projetMapper.toEntity(projet)).getIdProjet());
+    }
 
-    @Operation(description = "Affichage des projets")
+    @Operation(description = "Ajout en masse de projets (réponse en vue résumée)")
+    @PostMapping("/addProjets/bulk")
+    List<ProjetSummaryDTO> addProjets(@RequestBody List<ProjetEcritureDTO> projets) {
+        return resumeMapper.projetsResume(projetServices.AjouterProjets(projetMapper.toEntities(projets)));
+    }
+
+    @Operation(description = "Affichage des projets (vue=RESUME ou COMPLET)")
     @GetMapping("/getAllProjets")
-    List<Projet> getALlProjets(){
-        return projetServices.afficherListeProjets();
+    ResponseEntity<List<?>> getALlProjets(@RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue, WebRequest request){
+        return conditionnel.repondre(request, "projets", vue + ":" + empreintes.empreinteProjets(),
+                () -> vue == Vue.RESUME ? projetServices.afficherListeProjetsResume() : projetServices.afficherListeProjetsDTO());
     }
 
-    @Operation(description = "Affichage d'un projet selon l'ID")
+    @Operation(description = "Affichage paginé des projets (pagination par curseur, vue=RESUME ou COMPLET)")
+    @GetMapping("/getProjetsPage")
+    ResponseEntity<KeysetPage<?>> getProjetsPage(@RequestParam(value = "pageToken", required = false) String pageToken,
+                                                 @RequestParam(value = "size", defaultValue = "50") int size,
+                                                 @RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue,
+                                                 WebRequest request) {
+        return conditionnel.repondre(request, "projets", vue + ":" + empreintes.empreinteGlobale(),
+                () -> vue == Vue.RESUME ? projetServices.afficherPageProjetsResume(pageToken, size)
+                        : projetServices.afficherPageProjetsDTO(pageToken, size));
+    }
+
+    @Operation(description = "Recherche paginée des projets : type, préfixe du nom, technologie, plages de coût et de date")
+    @GetMapping("/rechercherProjets")
+    ResponseEntity<PagedModel<ProjetDTO>> rechercherProjets(@ModelAttribute ProjetFiltreDTO filtre,
+                                                            @RequestParam(value = "tri", defaultValue = "idProjet") String tri,
+                                                            @RequestParam(value = "direction", defaultValue = "ASC") String direction,
+                                                            @RequestParam(value = "page", defaultValue = "0") int page,
+                                                            @RequestParam(value = "size", defaultValue = "50") int size,
+                                                            WebRequest request) {
+        return conditionnel.repondre(request, "projets", empreintes.empreinteProjets(),
+                () -> new PagedModel<>(projetServices.rechercherProjets(filtre, tri, direction, page, size)));
+    }
+
+    @Operation(description = "Recherche plein texte (nom, description, technologie) triée par pertinence, préfixes et fautes de frappe acceptés")
+    @GetMapping("/rechercherTexte")
+    ResponseEntity<PagedModel<ProjetRechercheDTO>> rechercherTexte(@RequestParam("q") String texte,
+                                                                   @RequestParam(value = "page", defaultValue = "0") int page,
+                                                                   @RequestParam(value = "size", defaultValue = "50") int size,
+                                                                   WebRequest request) {
+        return conditionnel.repondre(request, "projets", empreintes.empreinteProjets(),
+                () -> new PagedModel<>(rechercheProjets.rechercherTexte(texte, page, size)));
+    }
+
+    @Operation(description = "Reconstruction complète de l'index de recherche plein texte")
+    @PostMapping("/recherche/reindexer")
+    public void reindexerRecherche() {
+        rechercheProjets.reindexer();
+    }
+
+    @Operation(description = "Export NDJSON de tous les projets avec leur détail et leurs équipes")
+    @GetMapping(value = "/exportProjets", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportProjets(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(EXPORT_TIMEOUT.toMillis());
+        StreamingResponseBody body = out -> projetServices.exporterProjets(out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(description = "Affichage d'un projet selon l'ID (vue=RESUME ou COMPLET)")
     @GetMapping("/getProjetById/{idP}")
-    Projet getProjetById(@PathVariable("idP") long idProjet) {return projetServices.afficherProjetSelonID(idProjet);}
+    ResponseEntity<Object> getProjetById(@PathVariable("idP") long idProjet,
+                                         @RequestParam(value = "vue", defaultValue = "COMPLET") Vue vue,
+                                         WebRequest request) {
+        return conditionnel.repondre(request, "projet", empreintes.empreinteProjet(idProjet).map(e -> vue + ":" + e),
+                () -> vue == Vue.RESUME ? projetServices.afficherProjetResumeSelonID(idProjet)
+                        : projetServices.afficherProjetDTOSelonID(idProjet));
+    }
 
-    @Operation(description = "Modification d'un projet")
+    @Operation(description = "Modification d'un projet (version obligatoire, détail et équipes inchangés)")
     @PutMapping("/updateProjet")
-    Projet updateProjet( @RequestBody Projet projet) {
-        return projetServices.modifierProjet(projet);
+    ProjetDTO updateProjet( @RequestBody ProjetEcritureDTO projet) {
+        projetServices.modifierProjet(projetMapper.modifier(projet, projetServices.afficherProjetSelonID(projet.idProjet())));
+        return projetServices.afficherProjetDTOSelonID(projet.idProjet());
     }
 
     @Operation(description = "Suppression d'un projet")
@@ -58,9 +168,46 @@ public class ProjetRestController {
         projetServices.assignProjetToEquipe(idProjet,idEquipe);
     }
 
+    @Operation(description = "Affectation en masse de projets à des équipes")
+    @PutMapping("/affecterProjetsAEquipes")
+    public void affecterProjetsAEquipes(@RequestBody List<ProjetEquipeLinkDTO> links) {
+        projetServices.assignProjetsToEquipes(links);
+    }
+
+    @Operation(description = "Désaffectation en masse de projets de leurs équipes")
+    @PutMapping("/desaffecterProjetsDesEquipes")
+    public void desaffecterProjetsDesEquipes(@RequestBody List<ProjetEquipeLinkDTO> links) {
+        projetServices.UnassignProjetsFromEquipes(links);
+    }
+
     @PostMapping("/ajouterProjetEtAffecter/{idPdetail}")
-    public Projet ajouterProjetEtAffecter(@RequestBody Projet projet,@PathVariable("idPdetail") long IdProjetDetail){
-        return  projetServices.addProjetAndAssignProjetDetailToProjet(IdProjetDetail, projet);
+    public ProjetDTO ajouterProjetEtAffecter(@RequestBody ProjetEcritureDTO projet,@PathVariable("idPdetail") long IdProjetDetail){
+        Projet ajoute = projetServices.addProjetAndAssignProjetDetailToProjet(IdProjetDetail, projetMapper.toEntity(projet));
+        return projetServices.afficherProjetDTOSelonID(ajoute.getIdProjet());
+    }
+
+    @Operation(description = "Ajout asynchrone d'un projet (202, statut consultable via la clé d'idempotence)")
+    @PostMapping("/ingestion/addProjet")
+    ResponseEntity<IngestionStatutDTO> addProjetAsync(@RequestHeader(IDEMPOTENCY_KEY) String cle, @RequestBody ProjetEcritureDTO projet) {
+        return accepte(ingestionProjets.soumettreProjet(cle, projetMapper.toEntity(projet)));
+    }
+
+    @Operation(description = "Ajout asynchrone d'un projet affecté à un détail existant")
+    @PostMapping("/ingestion/ajouterProjetEtAffecter/{idPdetail}")
+    ResponseEntity<IngestionStatutDTO> ajouterProjetEtAffecterAsync(@RequestHeader(IDEMPOTENCY_KEY) String cle,
+            @RequestBody ProjetEcritureDTO projet, @PathVariable("idPdetail") long idProjetDetail) {
+        return accepte(ingestionProjets.soumettreProjetEtAffecter(cle, projetMapper.toEntity(projet), idProjetDetail));
+    }
+
+    @Operation(description = "Statut d'une demande d'ingestion")
+    @GetMapping("/ingestion/statut/{cle}")
+    IngestionStatutDTO getStatutIngestion(@PathVariable("cle") String cle) {return ingestionProjets.afficherStatut(cle);}
+
+    private static ResponseEntity<IngestionStatutDTO> accepte(IngestionStatutDTO statut) {
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/Projet/ingestion/statut/{cle}").buildAndExpand(statut.cle()).toUri())
+                .body(statut);
     }
 
 
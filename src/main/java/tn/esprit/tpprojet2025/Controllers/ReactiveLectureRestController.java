@@ -0,0 +1,50 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tn.esprit.tpprojet2025.DTO.*;
+import tn.esprit.tpprojet2025.Services.IReactiveLectureServices;
+
+/**
+ * Chemin de lecture non bloquant (R2DBC) pour les clients à fort volume de lecture.
+ * Les listes sont diffusées en NDJSON, élément par élément, au rythme du client.
+ */
+@RestController
+@AllArgsConstructor
+@RequestMapping("/reactive")
+@Tag(name = "Lecture réactive")
+public class ReactiveLectureRestController {
+
+    @Autowired
+    private IReactiveLectureServices reactiveLectureServices;
+
+    @Operation(description = "Flux des projets (NDJSON)")
+    @GetMapping(value = "/Projet/getAllProjets", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<ProjetSummaryDTO> getAllProjets() {return reactiveLectureServices.afficherListeProjets();}
+
+    @Operation(description = "Projet selon l'ID, avec détail et équipes")
+    @GetMapping("/Projet/getProjetById/{idP}")
+    Mono<ProjetDTO> getProjetById(@PathVariable("idP") long idProjet) {return reactiveLectureServices.afficherProjetSelonID(idProjet);}
+
+    @Operation(description = "Flux des équipes (NDJSON)")
+    @GetMapping(value = "/Equipe/getAllEquipes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<EquipeSummaryDTO> getAllEquipes() {return reactiveLectureServices.afficherListeEquipes();}
+
+    @Operation(description = "Equipe selon l'ID, avec ses projets")
+    @GetMapping("/Equipe/getEquipeById/{idEq}")
+    Mono<EquipeDTO> getEquipeById(@PathVariable("idEq") long idEquipe) {return reactiveLectureServices.afficherEquipeSelonID(idEquipe);}
+
+    @Operation(description = "Flux des entreprises (NDJSON)")
+    @GetMapping(value = "/Entreprise/getAllEntreprises", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<EntrepriseSummaryDTO> getAllEntreprises() {return reactiveLectureServices.afficherListeEntreprises();}
+
+    @Operation(description = "Entreprise selon l'ID, avec ses équipes")
+    @GetMapping("/Entreprise/getEntrepriseById/{idE}")
+    Mono<EntrepriseDTO> getEntrepriseById(@PathVariable("idE") long idEntreprise) {return reactiveLectureServices.afficherEntrepriseSelonID(idEntreprise);}
+}
@@ -0,0 +1,68 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * GET conditionnels : l'ETag fort est dérivé des versions en base (ressource par ID) ou des compteurs
+ * de modification des tables (listes et pages), calculé avant toute lecture.
+ * Si le client possède déjà cette version, la réponse est un 304 sans chargement ni sérialisation.
+ * La politique Cache-Control de chaque endpoint vient de http.cache.max-age.&lt;politique&gt;
+ * (0 = revalidation systématique, par défaut http.cache.max-age.defaut).
+ */
+@Component
+public class ReponsesConditionnelles {
+
+    private static final String PREFIXE_POLITIQUE = "http.cache.max-age.";
+
+    private final Map<String, CacheControl> politiques = new ConcurrentHashMap<>();
+
+    @Autowired
+    private Environment environment;
+
+    public <T> ResponseEntity<T> repondre(WebRequest request, String politique, String empreinte, Supplier<T> corps) {
+        return repondre(request, politique, Optional.of(empreinte), corps);
+    }
+
+    /** Sans empreinte (ressource absente), le corps est évalué normalement et produit son erreur. */
+    public <T> ResponseEntity<T> repondre(WebRequest request, String politique, Optional<String> empreinte, Supplier<T> corps) {
+        CacheControl cacheControl = cacheControl(politique);
+        if (empreinte.isEmpty()) {
+            return ResponseEntity.ok().cacheControl(cacheControl).body(corps.get());
+        }
+        String etag = etag(empreinte.get(), request);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT).body(corps.get());
+    }
+
+    // Le type négocié fait partie de la représentation : un ETag fort par valeur d'Accept
+    private static String etag(String empreinte, WebRequest request) {
+        String accept = Optional.ofNullable(request.getHeader(HttpHeaders.ACCEPT)).orElse("");
+        return "\"" + DigestUtils.md5DigestAsHex((empreinte + "#" + accept).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private CacheControl cacheControl(String politique) {
+        return politiques.computeIfAbsent(politique, nom -> {
+            Duration defaut = environment.getProperty(PREFIXE_POLITIQUE + "defaut", Duration.class, Duration.ZERO);
+            Duration maxAge = environment.getProperty(PREFIXE_POLITIQUE + nom, Duration.class, defaut);
+            return maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge).mustRevalidate();
+        });
+    }
+}
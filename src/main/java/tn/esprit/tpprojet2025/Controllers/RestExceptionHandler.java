@@ -0,0 +1,44 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import tn.esprit.tpprojet2025.Services.RequeteInvalideException;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(RequeteInvalideException.class)
+    ResponseEntity<Map<String, String>> handleRequeteInvalide(RequeteInvalideException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+
+    // Version périmée envoyée par le client, ou conflit persistant après les reprises
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    ResponseEntity<Map<String, String>> handleConflict(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    ResponseEntity<Map<String, String>> handleNotFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+
+    // File d'ingestion pleine : le client renvoie la même demande plus tard
+    @ExceptionHandler(RejectedExecutionException.class)
+    ResponseEntity<Map<String, String>> handleSaturation(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+}
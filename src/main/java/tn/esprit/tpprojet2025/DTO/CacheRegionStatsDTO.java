@@ -0,0 +1,9 @@
+package tn.esprit.tpprojet2025.DTO;
+
+public record CacheRegionStatsDTO(String region,
+                                  long hits,
+                                  long misses,
+                                  long puts,
+                                  long elementsEnMemoire,
+                                  double hitRatio) {
+}
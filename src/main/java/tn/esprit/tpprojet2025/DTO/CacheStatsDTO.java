@@ -0,0 +1,9 @@
+package tn.esprit.tpprojet2025.DTO;
+
+public record CacheStatsDTO(String cache,
+                            long hits,
+                            long misses,
+                            long evictions,
+                            long taille,
+                            double hitRatio) {
+}
@@ -0,0 +1,5 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** Agrégat des coûts des projets par mois de début (projection JPQL). */
+public record CoutMensuelDTO(Integer annee, Integer mois, Long nombreProjets, Long coutTotal, Double coutMoyen, Long coutMax) {
+}
@@ -0,0 +1,8 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/**
+ * Agrégat des coûts des projets d'une entreprise (projection JPQL) ; un projet partagé
+ * par plusieurs équipes de l'entreprise n'est compté qu'une fois.
+ */
+public record CoutParEntrepriseDTO(Long idEntreprise, String nom, Long nombreProjets, Long coutTotal, Double coutMoyen, Long coutMax) {
+}
@@ -0,0 +1,5 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** Agrégat des coûts des projets affectés à une équipe (projection JPQL). */
+public record CoutParEquipeDTO(Long idEquipe, String nomEquipe, Long nombreProjets, Long coutTotal, Double coutMoyen, Long coutMax) {
+}
@@ -0,0 +1,7 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+/** Agrégat des coûts des projets d'un même type (projection JPQL). */
+public record CoutParTypeDTO(TypeProjet typeProjet, Long nombreProjets, Long coutTotal, Double coutMoyen, Long coutMax) {
+}
@@ -0,0 +1,10 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import java.util.List;
+
+public record EntrepriseDTO(Long idEntreprise,
+                            Long version,
+                            String nom,
+                            String adresse,
+                            List<EquipeSummaryDTO> equipes) {
+}
@@ -0,0 +1,7 @@
+package tn.esprit.tpprojet2025.DTO;
+
+public record EntrepriseEcritureDTO(Long idEntreprise,
+                                    Long version,
+                                    String nom,
+                                    String adresse) {
+}
@@ -0,0 +1,5 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** Référence légère vers une entreprise, sans ses équipes. */
+public record EntrepriseSummaryDTO(Long idEntreprise, String nom, String adresse) {
+}
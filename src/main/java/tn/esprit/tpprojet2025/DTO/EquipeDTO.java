@@ -0,0 +1,12 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import java.util.List;
+
+public record EquipeDTO(Long idEquipe,
+                        Long version,
+                        String nomEquipe,
+                        String specialite,
+                        Long idEntreprise,
+                        String nomEntreprise,
+                        List<ProjetSummaryDTO> projets) {
+}
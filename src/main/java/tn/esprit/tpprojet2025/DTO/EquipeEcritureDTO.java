@@ -0,0 +1,9 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** L'entreprise est référencée par identifiant ; les projets se gèrent via les endpoints d'affectation. */
+public record EquipeEcritureDTO(Long idEquipe,
+                                Long version,
+                                String nomEquipe,
+                                String specialite,
+                                Long idEntreprise) {
+}
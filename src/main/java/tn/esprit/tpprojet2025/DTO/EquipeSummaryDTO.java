@@ -0,0 +1,5 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** Référence légère vers une équipe, utilisée dans les vues des projets et des entreprises. */
+public record EquipeSummaryDTO(Long idEquipe, String nomEquipe, String specialite, Long idEntreprise) {
+}
@@ -0,0 +1,21 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** Suivi d'une demande d'ingestion asynchrone, retrouvée par sa clé d'idempotence. */
+public record IngestionStatutDTO(String cle, Etat etat, Long idProjet, String erreur) {
+
+    public enum Etat {
+        EN_ATTENTE, TERMINE, ECHEC
+    }
+
+    public static IngestionStatutDTO enAttente(String cle) {
+        return new IngestionStatutDTO(cle, Etat.EN_ATTENTE, null, null);
+    }
+
+    public static IngestionStatutDTO termine(String cle, Long idProjet) {
+        return new IngestionStatutDTO(cle, Etat.TERMINE, idProjet, null);
+    }
+
+    public static IngestionStatutDTO echec(String cle, String erreur) {
+        return new IngestionStatutDTO(cle, Etat.ECHEC, null, erreur);
+    }
+}
@@ -0,0 +1,17 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.List;
+
+/**
+ * Vue en lecture d'un projet : détail et équipes aplatis, sans références cycliques
+ * vers les entités gérées.
+ */
+public record ProjetDTO(Long idProjet,
+                        Long version,
+                        String nomProjet,
+                        TypeProjet typeProjet,
+                        ProjetDetailDTO projetDetail,
+                        List<EquipeSummaryDTO> equipes) {
+}
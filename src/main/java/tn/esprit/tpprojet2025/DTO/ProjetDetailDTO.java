@@ -0,0 +1,12 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import java.time.LocalDate;
+
+public record ProjetDetailDTO(Long idProjetDetail,
+                              Long version,
+                              String description,
+                              String technologie,
+                              Long cout,
+                              LocalDate dateDebut,
+                              Long idProjet) {
+}
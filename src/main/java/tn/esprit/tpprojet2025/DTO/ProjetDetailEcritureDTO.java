@@ -0,0 +1,11 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import java.time.LocalDate;
+
+public record ProjetDetailEcritureDTO(Long idProjetDetail,
+                                      Long version,
+                                      String description,
+                                      String technologie,
+                                      Long cout,
+                                      LocalDate dateDebut) {
+}
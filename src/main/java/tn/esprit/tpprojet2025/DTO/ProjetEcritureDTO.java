@@ -0,0 +1,15 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+/**
+ * Corps des créations et modifications de projet. L'identifiant et la version ne servent qu'en
+ * modification ; le détail n'est pris en compte qu'à la création (il se modifie via ProjetDetail)
+ * et les équipes via les endpoints d'affectation.
+ */
+public record ProjetEcritureDTO(Long idProjet,
+                                Long version,
+                                String nomProjet,
+                                TypeProjet typeProjet,
+                                ProjetDetailEcritureDTO projetDetail) {
+}
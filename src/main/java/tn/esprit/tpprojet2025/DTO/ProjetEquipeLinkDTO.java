@@ -0,0 +1,5 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/** Un lien Projet–Equipe pour les affectations en masse. */
+public record ProjetEquipeLinkDTO(long idProjet, long idEquipe) {
+}
@@ -0,0 +1,19 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.time.LocalDate;
+
+/**
+ * Critères de recherche des projets ; chaque critère absent (null) est ignoré.
+ * Les bornes de coût et de date sont inclusives.
+ */
+public record ProjetFiltreDTO(TypeProjet typeProjet,
+                              String nomPrefixe,
+                              String technologie,
+                              Long coutMin,
+                              Long coutMax,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateDebutMin,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateDebutMax) {
+}
@@ -0,0 +1,12 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+/** Résultat de la recherche plein texte, avec son score de pertinence (tri décroissant). */
+public record ProjetRechercheDTO(Long idProjet,
+                                 String nomProjet,
+                                 TypeProjet typeProjet,
+                                 String technologie,
+                                 String description,
+                                 float score) {
+}
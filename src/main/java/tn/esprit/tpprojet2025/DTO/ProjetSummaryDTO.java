@@ -0,0 +1,7 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+/** Référence légère vers un projet, utilisée dans les vues des équipes. */
+public record ProjetSummaryDTO(Long idProjet, String nomProjet, TypeProjet typeProjet) {
+}
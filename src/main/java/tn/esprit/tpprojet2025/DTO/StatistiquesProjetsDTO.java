@@ -0,0 +1,15 @@
+package tn.esprit.tpprojet2025.DTO;
+
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.Map;
+
+/**
+ * Instantané des compteurs en mémoire : nombre de projets (au total, par type, par équipe)
+ * et coût cumulé de tous les détails de projet.
+ */
+public record StatistiquesProjetsDTO(long nombreProjets,
+                                     long coutTotal,
+                                     Map<TypeProjet, Long> projetsParType,
+                                     Map<Long, Long> projetsParEquipe) {
+}
@@ -0,0 +1,9 @@
+package tn.esprit.tpprojet2025.DTO;
+
+/**
+ * Niveau de détail d'une réponse en lecture (paramètre "vue") : RESUME ne contient que les
+ * champs de l'entité, COMPLET y ajoute les associations aplaties en références légères.
+ */
+public enum Vue {
+    RESUME, COMPLET
+}
@@ -3,25 +3,34 @@ package tn.esprit.tpprojet2025.Entities;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Entreprise.CACHE_REGION)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Getter
 @Setter
-@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode
 public class Entreprise {
+    public static final String CACHE_REGION = "entreprise";
+    public static final String EQUIPES_CACHE_REGION = "entreprise-equipes";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entrepriseSeq")
+    @SequenceGenerator(name = "entrepriseSeq", sequenceName = "entreprise_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     Long idEntreprise;
     String nom;
     String adresse;
     @OneToMany(mappedBy = "entreprise")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EQUIPES_CACHE_REGION)
     Set<Equipe> equipes;
+    @Version
+    long version;
 
     public Long getIdEntreprise() {
         return idEntreprise;
@@ -54,4 +63,18 @@ public class Entreprise {
     public void setEquipes(Set<Equipe> equipes) {
         this.equipes = equipes;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "Entreprise(idEntreprise=" + idEntreprise + ", nom=" + nom + ", adresse=" + adresse
+                + ", version=" + version + ")";
+    }
 }
@@ -3,28 +3,46 @@ package tn.esprit.tpprojet2025.Entities;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Equipe.CACHE_REGION)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Getter
 @Setter
-@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode
 public class Equipe {
+    public static final String PROJETS_JOIN_TABLE = "equipe_projets";
+    public static final String PROJETS_JOIN_EQUIPE_COLUMN = "equipe_id_equipe";
+    public static final String PROJETS_JOIN_PROJET_COLUMN = "projets_id_projet";
+    // Régions sans point : Caffeine JCache ne retrouve pas dans application.conf un nom de cache qui en contient
+    public static final String CACHE_REGION = "equipe";
+    public static final String PROJETS_CACHE_REGION = "equipe-projets";
+    public static final String PROJETS_ROLE = "tn.esprit.tpprojet2025.Entities.Equipe.projets";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipeSeq")
+    @SequenceGenerator(name = "equipeSeq", sequenceName = "equipe_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     Long idEquipe;
     String nomEquipe;
     String specialite;
     @ManyToOne(cascade = CascadeType.ALL)
     Entreprise entreprise;
+    // equals/hashCode restent ceux d'Object (identité) : Hibernate garantit une seule instance par ligne
+    // dans une session, et add/contains/remove sur ce HashSet ne dépendent pas de la taille du graphe
     @ManyToMany(cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PROJETS_CACHE_REGION)
+    @JoinTable(name = PROJETS_JOIN_TABLE,
+            joinColumns = @JoinColumn(name = PROJETS_JOIN_EQUIPE_COLUMN),
+            inverseJoinColumns = @JoinColumn(name = PROJETS_JOIN_PROJET_COLUMN))
     Set<Projet> projets;
+    @Version
+    long version;
 
     public Long getIdEquipe() {
         return idEquipe;
@@ -65,4 +83,19 @@ public class Equipe {
     public void setProjets(Set<Projet> projets) {
         this.projets = projets;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    // Ni entreprise ni projets : toString ne doit jamais initialiser une association
+    @Override
+    public String toString() {
+        return "Equipe(idEquipe=" + idEquipe + ", nomEquipe=" + nomEquipe + ", specialite=" + specialite
+                + ", version=" + version + ")";
+    }
 }
@@ -0,0 +1,15 @@
+package tn.esprit.tpprojet2025.Entities;
+
+/**
+ * Paramètres communs de génération des identifiants.
+ * Les identifiants sont réservés par blocs (optimiseur "pooled") pour que Hibernate
+ * puisse regrouper les INSERT en lots JDBC, ce qui est impossible avec IDENTITY.
+ */
+public final class IdGeneration {
+
+    /** Nombre d'identifiants réservés par aller-retour vers la séquence. */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
@@ -3,29 +3,56 @@ package tn.esprit.tpprojet2025.Entities;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import tn.esprit.tpprojet2025.Config.RechercheAnalysisConfigurer;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_projet_type_nom", columnList = "typeProjet, nomProjet"),
+        @Index(name = "idx_projet_nom", columnList = "nomProjet")
+})
+@NamedEntityGraph(name = Projet.GRAPH_DETAIL_EQUIPES,
+        attributeNodes = {
+                @NamedAttributeNode("projetDetail"),
+                @NamedAttributeNode(value = "equipes", subgraph = "equipes")
+        },
+        subgraphs = @NamedSubgraph(name = "equipes", attributeNodes = @NamedAttributeNode("entreprise")))
+@Indexed(index = Projet.INDEX)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Getter
 @Setter
-@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode
 public class Projet {
+    public static final String GRAPH_DETAIL_EQUIPES = "Projet.detailEtEquipes";
+    public static final String INDEX = "projet";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projetSeq")
+    @SequenceGenerator(name = "projetSeq", sequenceName = "projet_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     Long idProjet;
+    @FullTextField(analyzer = RechercheAnalysisConfigurer.TEXTE)
+    @FullTextField(name = "nomProjet_prefixe", analyzer = RechercheAnalysisConfigurer.PREFIXE,
+            searchAnalyzer = RechercheAnalysisConfigurer.TEXTE)
     String nomProjet;
     @Enumerated(EnumType.STRING)
+    @KeywordField
     TypeProjet typeProjet;
+    // Le détail est recopié dans le document du projet, réindexé quand le détail change
     @OneToOne(cascade = CascadeType.ALL)
+    @IndexedEmbedded
     ProjetDetail projetDetail;
-    @ManyToMany
+    // Égalité par identité, comme Equipe.projets (côté propriétaire)
+    @ManyToMany(mappedBy = "projets")
     Set<Equipe> equipes = new HashSet<Equipe>();
+    @Version
+    long version;
 
     public Long getIdProjet() {
         return idProjet;
@@ -66,4 +93,19 @@ public class Projet {
     public void setEquipes(Set<Equipe> equipes) {
         this.equipes = equipes;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    // Champs simples seulement : afficher le détail ou les équipes chargerait (et parcourrait) le graphe
+    @Override
+    public String toString() {
+        return "Projet(idProjet=" + idProjet + ", nomProjet=" + nomProjet + ", typeProjet=" + typeProjet
+                + ", version=" + version + ")";
+    }
 }
@@ -3,26 +3,41 @@ package tn.esprit.tpprojet2025.Entities;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import tn.esprit.tpprojet2025.Config.RechercheAnalysisConfigurer;
+
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_projet_detail_techno_date", columnList = "technologie, dateDebut"),
+        @Index(name = "idx_projet_detail_date", columnList = "dateDebut"),
+        @Index(name = "idx_projet_detail_cout", columnList = "Cout")
+})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Getter
 @Setter
-@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@EqualsAndHashCode
 public class ProjetDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projetDetailSeq")
+    @SequenceGenerator(name = "projetDetailSeq", sequenceName = "projet_detail_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     Long idProjetDetail;
+    @FullTextField(analyzer = RechercheAnalysisConfigurer.TEXTE)
+    @FullTextField(name = "description_prefixe", analyzer = RechercheAnalysisConfigurer.PREFIXE,
+            searchAnalyzer = RechercheAnalysisConfigurer.TEXTE)
     String description;
+    @FullTextField(analyzer = RechercheAnalysisConfigurer.TEXTE)
+    @FullTextField(name = "technologie_prefixe", analyzer = RechercheAnalysisConfigurer.PREFIXE,
+            searchAnalyzer = RechercheAnalysisConfigurer.TEXTE)
     String technologie;
     Long Cout;
     LocalDate dateDebut;
     @OneToOne(mappedBy = "projetDetail")
     Projet projet;
+    @Version
+    long version;
 
     public Long getIdProjetDetail() {
         return idProjetDetail;
@@ -71,4 +86,20 @@ public class ProjetDetail {
     public void setProjet(Projet projet) {
         this.projet = projet;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    // Le projet (côté inverse) est omis : Projet.toString n'affiche pas non plus son détail
+    @Override
+    public String toString() {
+        return "ProjetDetail(idProjetDetail=" + idProjetDetail + ", description=" + description
+                + ", technologie=" + technologie + ", cout=" + Cout + ", dateDebut=" + dateDebut
+                + ", version=" + version + ")";
+    }
 }
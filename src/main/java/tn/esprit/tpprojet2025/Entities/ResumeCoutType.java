@@ -0,0 +1,101 @@
+package tn.esprit.tpprojet2025.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Table de synthèse matérialisée des coûts par type de projet, tenue à jour type par type
+ * lors des modifications des détails de projet.
+ */
+@Entity
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeCoutType {
+    @Id
+    @Enumerated(EnumType.STRING)
+    TypeProjet typeProjet;
+    Long nombreProjets;
+    Long coutTotal;
+    Double coutMoyen;
+    Long coutMax;
+    LocalDateTime dateMiseAJour;
+
+    public TypeProjet getTypeProjet() {
+        return typeProjet;
+    }
+
+    public void setTypeProjet(TypeProjet typeProjet) {
+        this.typeProjet = typeProjet;
+    }
+
+    public Long getNombreProjets() {
+        return nombreProjets;
+    }
+
+    public void setNombreProjets(Long nombreProjets) {
+        this.nombreProjets = nombreProjets;
+    }
+
+    public Long getCoutTotal() {
+        return coutTotal;
+    }
+
+    public void setCoutTotal(Long coutTotal) {
+        this.coutTotal = coutTotal;
+    }
+
+    public Double getCoutMoyen() {
+        return coutMoyen;
+    }
+
+    public void setCoutMoyen(Double coutMoyen) {
+        this.coutMoyen = coutMoyen;
+    }
+
+    public Long getCoutMax() {
+        return coutMax;
+    }
+
+    public void setCoutMax(Long coutMax) {
+        this.coutMax = coutMax;
+    }
+
+    public LocalDateTime getDateMiseAJour() {
+        return dateMiseAJour;
+    }
+
+    public void setDateMiseAJour(LocalDateTime dateMiseAJour) {
+        this.dateMiseAJour = dateMiseAJour;
+    }
+
+    // Clé naturelle (le type) attribuée avant la persistance et jamais modifiée : sûre pour equals/hashCode
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResumeCoutType autre)) {
+            return false;
+        }
+        return typeProjet != null && typeProjet == autre.typeProjet;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(typeProjet);
+    }
+
+    @Override
+    public String toString() {
+        return "ResumeCoutType(typeProjet=" + typeProjet + ", nombreProjets=" + nombreProjets
+                + ", coutTotal=" + coutTotal + ", coutMoyen=" + coutMoyen + ", coutMax=" + coutMax
+                + ", dateMiseAJour=" + dateMiseAJour + ")";
+    }
+}
@@ -0,0 +1,37 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import tn.esprit.tpprojet2025.DTO.EntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.EntrepriseEcritureDTO;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+
+import java.util.List;
+
+@Mapper(config = MappingConfig.class, uses = ResumeMapper.class)
+public interface EntrepriseMapper {
+
+    EntrepriseDTO toDTO(Entreprise entreprise);
+
+    List<EntrepriseDTO> toDTOs(List<Entreprise> entreprises);
+
+    @Mapping(target = "idEntreprise", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "equipes", ignore = true)
+    Entreprise toEntity(EntrepriseEcritureDTO entreprise);
+
+    List<Entreprise> toEntities(List<EntrepriseEcritureDTO> entreprises);
+
+    @Mapping(target = "idEntreprise", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "equipes", ignore = true)
+    void mettreAJour(EntrepriseEcritureDTO source, @MappingTarget Entreprise entreprise);
+
+    /** Applique une modification sur l'entreprise chargée, si la version correspond. */
+    default Entreprise modifier(EntrepriseEcritureDTO source, Entreprise entreprise) {
+        Versions.verifier(source.version(), entreprise.getVersion(), Entreprise.class, entreprise.getIdEntreprise());
+        mettreAJour(source, entreprise);
+        return entreprise;
+    }
+}
@@ -0,0 +1,42 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import tn.esprit.tpprojet2025.DTO.EquipeDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeEcritureDTO;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+
+import java.util.List;
+
+@Mapper(config = MappingConfig.class, uses = {ResumeMapper.class, ReferenceMapper.class})
+public interface EquipeMapper {
+
+    @Mapping(target = "idEntreprise", source = "entreprise.idEntreprise")
+    @Mapping(target = "nomEntreprise", source = "entreprise.nom")
+    EquipeDTO toDTO(Equipe equipe);
+
+    List<EquipeDTO> toDTOs(List<Equipe> equipes);
+
+    @Mapping(target = "idEquipe", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "entreprise", source = "idEntreprise")
+    @Mapping(target = "projets", ignore = true)
+    Equipe toEntity(EquipeEcritureDTO equipe);
+
+    List<Equipe> toEntities(List<EquipeEcritureDTO> equipes);
+
+    // Les liens vers les projets (côté propriétaire) ne sont jamais remplacés par une modification
+    @Mapping(target = "idEquipe", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "entreprise", source = "idEntreprise")
+    @Mapping(target = "projets", ignore = true)
+    void mettreAJour(EquipeEcritureDTO source, @MappingTarget Equipe equipe);
+
+    /** Applique une modification sur l'équipe chargée, si la version correspond. */
+    default Equipe modifier(EquipeEcritureDTO source, Equipe equipe) {
+        Versions.verifier(source.version(), equipe.getVersion(), Equipe.class, equipe.getIdEquipe());
+        mettreAJour(source, equipe);
+        return equipe;
+    }
+}
@@ -0,0 +1,11 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+
+/** Mappers générés par MapStruct : beans Spring, dépendances injectées par constructeur. */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface MappingConfig {
+}
@@ -0,0 +1,38 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import tn.esprit.tpprojet2025.DTO.ProjetDetailDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetDetailEcritureDTO;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+
+import java.util.List;
+
+@Mapper(config = MappingConfig.class)
+public interface ProjetDetailMapper {
+
+    @Mapping(target = "idProjet", source = "projet.idProjet")
+    ProjetDetailDTO toDTO(ProjetDetail projetDetail);
+
+    List<ProjetDetailDTO> toDTOs(List<ProjetDetail> projetDetails);
+
+    @Mapping(target = "idProjetDetail", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "projet", ignore = true)
+    ProjetDetail toEntity(ProjetDetailEcritureDTO projetDetail);
+
+    List<ProjetDetail> toEntities(List<ProjetDetailEcritureDTO> projetDetails);
+
+    @Mapping(target = "idProjetDetail", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "projet", ignore = true)
+    void mettreAJour(ProjetDetailEcritureDTO source, @MappingTarget ProjetDetail projetDetail);
+
+    /** Applique une modification sur le détail chargé, si le client en connaissait la dernière version. */
+    default ProjetDetail modifier(ProjetDetailEcritureDTO source, ProjetDetail projetDetail) {
+        Versions.verifier(source.version(), projetDetail.getVersion(), ProjetDetail.class, projetDetail.getIdProjetDetail());
+        mettreAJour(source, projetDetail);
+        return projetDetail;
+    }
+}
@@ -0,0 +1,38 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetEcritureDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+
+import java.util.List;
+
+@Mapper(config = MappingConfig.class, uses = {ProjetDetailMapper.class, ResumeMapper.class})
+public interface ProjetMapper {
+
+    ProjetDTO toDTO(Projet projet);
+
+    List<ProjetDTO> toDTOs(List<Projet> projets);
+
+    @Mapping(target = "idProjet", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "equipes", ignore = true)
+    Projet toEntity(ProjetEcritureDTO projet);
+
+    List<Projet> toEntities(List<ProjetEcritureDTO> projets);
+
+    @Mapping(target = "idProjet", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "projetDetail", ignore = true)
+    @Mapping(target = "equipes", ignore = true)
+    void mettreAJour(ProjetEcritureDTO source, @MappingTarget Projet projet);
+
+    /** Applique une modification sur le projet chargé (détail et équipes inchangés), si la version correspond. */
+    default Projet modifier(ProjetEcritureDTO source, Projet projet) {
+        Versions.verifier(source.version(), projet.getVersion(), Projet.class, projet.getIdProjet());
+        mettreAJour(source, projet);
+        return projet;
+    }
+}
@@ -0,0 +1,28 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Repositories.EntrepriseRepository;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Résout les références par identifiant des DTO d'écriture. L'entité est chargée (cache de second
+ * niveau) plutôt que créée vide : Equipe.entreprise est en cascade ALL et un objet vide écraserait
+ * l'entreprise au merge.
+ */
+@Component
+public class ReferenceMapper {
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    public Entreprise entreprise(Long idEntreprise) {
+        if (idEntreprise == null) {
+            return null;
+        }
+        return entrepriseRepository.findById(idEntreprise)
+                .orElseThrow(() -> new NoSuchElementException("Entreprise introuvable : " + idEntreprise));
+    }
+}
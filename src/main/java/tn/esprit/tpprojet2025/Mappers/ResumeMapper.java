@@ -0,0 +1,58 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import tn.esprit.tpprojet2025.DTO.EntrepriseSummaryDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetSummaryDTO;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Vues résumées (champs propres de l'entité, sans collection). Elles servent aussi de références
+ * dans les vues complètes : une association n'est donc jamais parcourue sur plus d'un niveau.
+ */
+@Mapper(config = MappingConfig.class)
+public interface ResumeMapper {
+
+    ProjetSummaryDTO toResume(Projet projet);
+
+    // entreprise.idEntreprise ne déclenche pas le chargement du proxy
+    @Mapping(target = "idEntreprise", source = "entreprise.idEntreprise")
+    EquipeSummaryDTO toResume(Equipe equipe);
+
+    EntrepriseSummaryDTO toResume(Entreprise entreprise);
+
+    List<ProjetSummaryDTO> projetsResume(List<Projet> projets);
+
+    List<EquipeSummaryDTO> equipesResume(List<Equipe> equipes);
+
+    List<EntrepriseSummaryDTO> entreprisesResume(List<Entreprise> entreprises);
+
+    /** Projets d'une équipe, triés par identifiant pour une sortie stable. */
+    default List<ProjetSummaryDTO> projetsTries(Set<Projet> projets) {
+        if (projets == null) {
+            return List.of();
+        }
+        return projets.stream()
+                .map(this::toResume)
+                .sorted(Comparator.comparing(ProjetSummaryDTO::idProjet, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    /** Équipes d'un projet ou d'une entreprise, triées par identifiant. */
+    default List<EquipeSummaryDTO> equipesTriees(Set<Equipe> equipes) {
+        if (equipes == null) {
+            return List.of();
+        }
+        return equipes.stream()
+                .map(this::toResume)
+                .sorted(Comparator.comparing(EquipeSummaryDTO::idEquipe, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+}
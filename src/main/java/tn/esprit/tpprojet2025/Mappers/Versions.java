@@ -0,0 +1,16 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/** Contrôle de la version envoyée par le client avant d'appliquer une modification (409 sinon). */
+final class Versions {
+
+    private Versions() {
+    }
+
+    static void verifier(Long versionClient, long versionActuelle, Class<?> type, Object id) {
+        if (versionClient == null || versionClient != versionActuelle) {
+            throw new ObjectOptimisticLockingFailureException(type, id);
+        }
+    }
+}
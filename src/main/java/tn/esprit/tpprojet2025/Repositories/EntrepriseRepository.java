@@ -1,7 +1,32 @@
 package tn.esprit.tpprojet2025.Repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import tn.esprit.tpprojet2025.DTO.EntrepriseSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Entreprise;
 
+import java.util.List;
+
 public interface EntrepriseRepository extends JpaRepository<Entreprise, Long> {
+    List<Entreprise> findByIdEntrepriseGreaterThanOrderByIdEntrepriseAsc(Long idEntreprise, Pageable pageable);
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.EntrepriseSummaryDTO(en.idEntreprise, en.nom, en.adresse) "
+            + "from Entreprise en where en.idEntreprise > :idEntreprise order by en.idEntreprise")
+    List<EntrepriseSummaryDTO> findResumesAfter(@Param("idEntreprise") Long idEntreprise, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"equipes"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select e from Entreprise e order by e.idEntreprise")
+    List<Entreprise> findAllWithEquipes();
+
+    // Équipes affichées dans EntrepriseDTO
+    @Query("select en.version, e.idEquipe, e.version from Entreprise en "
+            + "left join en.equipes e where en.idEntreprise = :idEntreprise order by e.idEquipe")
+    List<Object[]> findVersionsByIdEntreprise(@Param("idEntreprise") long idEntreprise);
 }
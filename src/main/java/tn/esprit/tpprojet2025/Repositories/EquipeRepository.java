@@ -1,9 +1,47 @@
 package tn.esprit.tpprojet2025.Repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Equipe;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface EquipeRepository extends JpaRepository<Equipe, Long> {
+    List<Equipe> findByIdEquipeGreaterThanOrderByIdEquipeAsc(Long idEquipe, Pageable pageable);
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO(e.idEquipe, e.nomEquipe, e.specialite, en.idEntreprise) "
+            + "from Equipe e left join e.entreprise en where e.idEquipe > :idEquipe order by e.idEquipe")
+    List<EquipeSummaryDTO> findResumesAfter(@Param("idEquipe") Long idEquipe, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"entreprise", "projets", "projets.projetDetail"})
+    @Query("select e from Equipe e order by e.idEquipe")
+    List<Equipe> findAllWithEntrepriseAndProjets();
+
+    @Query("select e.idEquipe, count(p) from Equipe e join e.projets p group by e.idEquipe")
+    List<Object[]> countProjetsGroupByEquipe();
+
+    // Entreprise et projets affichés dans EquipeDTO
+    @Query("select e.version, en.idEntreprise, en.version, p.idProjet, p.version from Equipe e "
+            + "left join e.entreprise en left join e.projets p where e.idEquipe = :idEquipe order by p.idProjet")
+    List<Object[]> findVersionsByIdEquipe(@Param("idEquipe") long idEquipe);
+
+    // Arêtes du graphe Entreprise → Equipe → Projet, lues en identifiants seulement
+    @Query("select e.idEquipe, en.idEntreprise from Equipe e left join e.entreprise en")
+    List<Object[]> findEntrepriseIds();
+
+    @Query("select e.idEquipe, en.idEntreprise from Equipe e left join e.entreprise en where e.idEquipe in :idsEquipes")
+    List<Object[]> findEntrepriseIdsByIdEquipeIn(@Param("idsEquipes") Collection<Long> idsEquipes);
+
+    @Query("select e.idEquipe, p.idProjet from Equipe e join e.projets p")
+    List<Object[]> findProjetIds();
+
+    @Query("select e.idEquipe, p.idProjet from Equipe e join e.projets p where e.idEquipe in :idsEquipes")
+    List<Object[]> findProjetIdsByIdEquipeIn(@Param("idsEquipes") Collection<Long> idsEquipes);
 }
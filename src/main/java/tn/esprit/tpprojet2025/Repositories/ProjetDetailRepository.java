@@ -1,9 +1,35 @@
 package tn.esprit.tpprojet2025.Repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tn.esprit.tpprojet2025.Entities.ProjetDetail;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProjetDetailRepository extends JpaRepository <ProjetDetail, Long> {
+    List<ProjetDetail> findByIdProjetDetailGreaterThanOrderByIdProjetDetailAsc(Long idProjetDetail, Pageable pageable);
+
+    // Le côté inverse du @OneToOne est chargé en EAGER : on le joint pour éviter un SELECT par détail
+    @EntityGraph(attributePaths = {"projet"})
+    @Query("select d from ProjetDetail d order by d.idProjetDetail")
+    List<ProjetDetail> findAllWithProjet();
+
+    @EntityGraph(attributePaths = {"projet"})
+    Optional<ProjetDetail> findWithProjetByIdProjetDetail(Long idProjetDetail);
+
+    @Query("select d.Cout from ProjetDetail d where d.idProjetDetail = :idProjetDetail")
+    Optional<Long> findCoutByIdProjetDetail(@Param("idProjetDetail") Long idProjetDetail);
+
+    @Query("select coalesce(sum(d.Cout), 0) from ProjetDetail d")
+    long sumCout();
+
+    // ProjetDetailDTO expose aussi l'identifiant du projet propriétaire
+    @Query("select d.version, p.idProjet from ProjetDetail d left join d.projet p where d.idProjetDetail = :idProjetDetail")
+    List<Object[]> findVersionsByIdProjetDetail(@Param("idProjetDetail") long idProjetDetail);
 }
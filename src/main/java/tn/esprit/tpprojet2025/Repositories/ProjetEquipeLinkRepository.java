@@ -0,0 +1,99 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import tn.esprit.tpprojet2025.DTO.ProjetEquipeLinkDTO;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static tn.esprit.tpprojet2025.Entities.Equipe.*;
+
+/**
+ * Accès direct à la table de jointure Equipe.projets : les liens sont insérés/supprimés
+ * par lots JDBC sans charger les collections.
+ */
+@Repository
+public class ProjetEquipeLinkRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_LINK =
+            "insert into " + PROJETS_JOIN_TABLE + " (" + PROJETS_JOIN_EQUIPE_COLUMN + ", " + PROJETS_JOIN_PROJET_COLUMN + ") "
+                    + "select ?, ? from dual where not exists (select 1 from " + PROJETS_JOIN_TABLE
+                    + " where " + PROJETS_JOIN_EQUIPE_COLUMN + " = ? and " + PROJETS_JOIN_PROJET_COLUMN + " = ?)";
+
+    private static final String DELETE_LINK =
+            "delete from " + PROJETS_JOIN_TABLE
+                    + " where " + PROJETS_JOIN_EQUIPE_COLUMN + " = ? and " + PROJETS_JOIN_PROJET_COLUMN + " = ?";
+
+    // Verrou exclusif sur la ligne de l'équipe : sérialise les changements de liens d'une même équipe
+    // et invalide les copies détachées de l'équipe (merge avec un projets périmé)
+    private static final String INCREMENT_EQUIPE_VERSION =
+            "update equipe set version = version + 1 where id_equipe = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Incrémente la version des équipes par identifiant croissant (ordre de verrouillage stable) ; retourne le nombre d'équipes trouvées. */
+    public int incrementEquipeVersions(Collection<Long> idsEquipes) {
+        List<Long> ids = idsEquipes.stream().distinct().sorted().toList();
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT_EQUIPE_VERSION, ids, BATCH_SIZE,
+                (ps, idEquipe) -> ps.setLong(1, idEquipe));
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+
+    /** Retourne true si le lien n'existait pas encore. */
+    public boolean insertLink(long idEquipe, long idProjet) {
+        return jdbcTemplate.update(INSERT_LINK, idEquipe, idProjet, idEquipe, idProjet) > 0;
+    }
+
+    /** Retourne true si le lien existait. */
+    public boolean deleteLink(long idEquipe, long idProjet) {
+        return jdbcTemplate.update(DELETE_LINK, idEquipe, idProjet) > 0;
+    }
+
+    /** Retourne les liens qui n'existaient pas encore, ou vide si le pilote ne donne pas le compte de chaque ligne. */
+    public Optional<List<ProjetEquipeLinkDTO>> insertLinks(Collection<ProjetEquipeLinkDTO> links) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_LINK, links, BATCH_SIZE, (ps, link) -> {
+            ps.setLong(1, link.idEquipe());
+            ps.setLong(2, link.idProjet());
+            ps.setLong(3, link.idEquipe());
+            ps.setLong(4, link.idProjet());
+        });
+        return liensModifies(links, counts);
+    }
+
+    /** Retourne les liens qui existaient, ou vide si le pilote ne donne pas le compte de chaque ligne. */
+    public Optional<List<ProjetEquipeLinkDTO>> deleteLinks(Collection<ProjetEquipeLinkDTO> links) {
+        int[][] counts = jdbcTemplate.batchUpdate(DELETE_LINK, links, BATCH_SIZE, (ps, link) -> {
+            ps.setLong(1, link.idEquipe());
+            ps.setLong(2, link.idProjet());
+        });
+        return liensModifies(links, counts);
+    }
+
+    // Les comptes suivent l'ordre des liens, lot par lot
+    private static Optional<List<ProjetEquipeLinkDTO>> liensModifies(Collection<ProjetEquipeLinkDTO> links, int[][] counts) {
+        List<ProjetEquipeLinkDTO> modifies = new ArrayList<>();
+        Iterator<ProjetEquipeLinkDTO> it = links.iterator();
+        for (int[] lot : counts) {
+            for (int count : lot) {
+                ProjetEquipeLinkDTO link = it.next();
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    return Optional.empty();
+                }
+                if (count > 0) {
+                    modifies.add(link);
+                }
+            }
+        }
+        return Optional.of(modifies);
+    }
+}
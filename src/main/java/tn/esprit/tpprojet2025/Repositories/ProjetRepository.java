@@ -1,10 +1,59 @@
 package tn.esprit.tpprojet2025.Repositories;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tn.esprit.tpprojet2025.DTO.ProjetSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Projet;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProjetRepository extends JpaRepository<Projet, Long> {
-    
+public interface ProjetRepository extends JpaRepository<Projet, Long>, JpaSpecificationExecutor<Projet> {
+    List<Projet> findByIdProjetGreaterThanOrderByIdProjetAsc(Long idProjet, Pageable pageable);
+
+    // Vue résumée projetée en SQL : ni détail ni équipes chargés
+    @Query("select new tn.esprit.tpprojet2025.DTO.ProjetSummaryDTO(p.idProjet, p.nomProjet, p.typeProjet) "
+            + "from Projet p where p.idProjet > :idProjet order by p.idProjet")
+    List<ProjetSummaryDTO> findResumesAfter(@Param("idProjet") Long idProjet, Pageable pageable);
+
+    @Query("select p.typeProjet, count(p) from Projet p group by p.typeProjet")
+    List<Object[]> countGroupByTypeProjet();
+
+    @EntityGraph(Projet.GRAPH_DETAIL_EQUIPES)
+    @Query("select p from Projet p order by p.idProjet")
+    List<Projet> findAllWithDetailAndEquipes();
+
+    @EntityGraph(Projet.GRAPH_DETAIL_EQUIPES)
+    Optional<Projet> findWithDetailAndEquipesByIdProjet(Long idProjet);
+
+    // Lecture par lots de 500 lignes : avec useCursorFetch, le pilote MySQL ouvre un curseur serveur au lieu de
+    // tout charger. Équipes lues dans la même requête (lignes d'un projet contiguës grâce au tri par identifiant)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from Projet p left join fetch p.projetDetail left join fetch p.equipes order by p.idProjet")
+    Stream<Projet> streamAllWithDetailAndEquipes();
+
+    // Type et détail de projets avant une écriture en cascade (comparés ensuite à l'état écrit)
+    @Query("select p.idProjet, p.typeProjet, d.idProjetDetail, d.Cout from Projet p left join p.projetDetail d "
+            + "where p.idProjet in :idsProjets")
+    List<Object[]> findTypesEtDetailsByIdProjetIn(@Param("idsProjets") Collection<Long> idsProjets);
+
+    // Versions des lignes qui composent ProjetDTO, lues sans charger le projet (validateur HTTP)
+    @Query("select p.version, d.idProjetDetail, d.version, e.idEquipe, e.version from Projet p "
+            + "left join p.projetDetail d left join p.equipes e where p.idProjet = :idProjet order by e.idEquipe")
+    List<Object[]> findVersionsByIdProjet(@Param("idProjet") long idProjet);
 }
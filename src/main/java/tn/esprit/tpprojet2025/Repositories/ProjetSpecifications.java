@@ -0,0 +1,77 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import tn.esprit.tpprojet2025.DTO.ProjetFiltreDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Specifications de recherche des projets. Les prédicats portent sur les colonnes indexées
+ * de {@link Projet} et {@link ProjetDetail} ; le détail est chargé par la même jointure.
+ */
+public final class ProjetSpecifications {
+
+    public static final String TRI_PAR_DEFAUT = "idProjet";
+    public static final Set<String> TRIS = Set.of("idProjet", "nomProjet", "typeProjet", "cout", "dateDebut");
+
+    private ProjetSpecifications() {
+    }
+
+    public static Specification<Projet> rechercher(ProjetFiltreDTO filtre, String tri, Sort.Direction direction) {
+        String colonneTri = tri == null || tri.isBlank() ? TRI_PAR_DEFAUT : tri;
+        if (!TRIS.contains(colonneTri)) {
+            throw new IllegalArgumentException("Tri non supporté : " + tri + " (valeurs possibles : " + TRIS + ")");
+        }
+        return (root, query, cb) -> {
+            boolean comptage = query.getResultType() == Long.class || query.getResultType() == long.class;
+            Join<Projet, ProjetDetail> detail = comptage
+                    ? root.join("projetDetail", JoinType.LEFT)
+                    : (Join<Projet, ProjetDetail>) root.<Projet, ProjetDetail>fetch("projetDetail", JoinType.LEFT);
+
+            List<Predicate> predicats = new ArrayList<>();
+            if (filtre.typeProjet() != null) {
+                predicats.add(cb.equal(root.get("typeProjet"), filtre.typeProjet()));
+            }
+            if (filtre.nomPrefixe() != null && !filtre.nomPrefixe().isBlank()) {
+                // LIKE 'prefixe%' sans fonction sur la colonne : reste servi par l'index sur nom_projet
+                predicats.add(cb.like(root.get("nomProjet"), echapperLike(filtre.nomPrefixe()) + "%", '\\'));
+            }
+            if (filtre.technologie() != null && !filtre.technologie().isBlank()) {
+                predicats.add(cb.equal(detail.get("technologie"), filtre.technologie()));
+            }
+            if (filtre.coutMin() != null) {
+                predicats.add(cb.greaterThanOrEqualTo(detail.get("Cout"), filtre.coutMin()));
+            }
+            if (filtre.coutMax() != null) {
+                predicats.add(cb.lessThanOrEqualTo(detail.get("Cout"), filtre.coutMax()));
+            }
+            if (filtre.dateDebutMin() != null) {
+                predicats.add(cb.greaterThanOrEqualTo(detail.get("dateDebut"), filtre.dateDebutMin()));
+            }
+            if (filtre.dateDebutMax() != null) {
+                predicats.add(cb.lessThanOrEqualTo(detail.get("dateDebut"), filtre.dateDebutMax()));
+            }
+
+            if (!comptage) {
+                Expression<?> cle = switch (colonneTri) {
+                    case "cout" -> detail.get("Cout");
+                    case "dateDebut" -> detail.get("dateDebut");
+                    default -> root.get(colonneTri);
+                };
+                // idProjet en second critère : ordre stable d'une page à l'autre
+                query.orderBy(direction.isDescending() ? cb.desc(cle) : cb.asc(cle), cb.asc(root.get("idProjet")));
+            }
+            return cb.and(predicats.toArray(new Predicate[0]));
+        };
+    }
+
+    static String echapperLike(String valeur) {
+        return valeur.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,124 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tn.esprit.tpprojet2025.DTO.*;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static tn.esprit.tpprojet2025.Entities.Equipe.*;
+
+/**
+ * Lectures non bloquantes (R2DBC) sur les tables mappées par les entités JPA.
+ * R2DBC ne gère pas les associations : les vues sont construites directement en SQL.
+ */
+@Repository
+public class ReactiveReadRepository {
+
+    private static final String EQUIPE_COLUMNS = "e.id_equipe, e.nom_equipe, e.specialite, e.entreprise_id_entreprise";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<ProjetSummaryDTO> findAllProjets() {
+        return databaseClient.sql("select id_projet, nom_projet, type_projet from projet order by id_projet")
+                .map(ReactiveReadRepository::projetSummary)
+                .all();
+    }
+
+    public Mono<ProjetDTO> findProjetById(long idProjet) {
+        Mono<ProjetDTO> projet = databaseClient.sql("select p.id_projet, p.version, p.nom_projet, p.type_projet, "
+                        + "d.id_projet_detail, d.version as version_detail, d.description, d.technologie, d.cout, d.date_debut "
+                        + "from projet p left join projet_detail d on d.id_projet_detail = p.projet_detail_id_projet_detail "
+                        + "where p.id_projet = :id")
+                .bind("id", idProjet)
+                .map(row -> {
+                    Long idDetail = row.get("id_projet_detail", Long.class);
+                    ProjetDetailDTO detail = idDetail == null ? null : new ProjetDetailDTO(idDetail,
+                            row.get("version_detail", Long.class), row.get("description", String.class), row.get("technologie", String.class),
+                            row.get("cout", Long.class), row.get("date_debut", LocalDate.class), idProjet);
+                    return new ProjetDTO(row.get("id_projet", Long.class), row.get("version", Long.class),
+                            row.get("nom_projet", String.class),
+                            typeProjet(row.get("type_projet", String.class)), detail, List.of());
+                })
+                .one();
+        Mono<List<EquipeSummaryDTO>> equipes = databaseClient.sql("select " + EQUIPE_COLUMNS + " from equipe e "
+                        + "join " + PROJETS_JOIN_TABLE + " l on l." + PROJETS_JOIN_EQUIPE_COLUMN + " = e.id_equipe "
+                        + "where l." + PROJETS_JOIN_PROJET_COLUMN + " = :id order by e.id_equipe")
+                .bind("id", idProjet)
+                .map(ReactiveReadRepository::equipeSummary)
+                .all()
+                .collectList();
+        return projet.zipWith(equipes, (p, e) ->
+                new ProjetDTO(p.idProjet(), p.version(), p.nomProjet(), p.typeProjet(), p.projetDetail(), e));
+    }
+
+    public Flux<EquipeSummaryDTO> findAllEquipes() {
+        return databaseClient.sql("select " + EQUIPE_COLUMNS + " from equipe e order by e.id_equipe")
+                .map(ReactiveReadRepository::equipeSummary)
+                .all();
+    }
+
+    public Mono<EquipeDTO> findEquipeById(long idEquipe) {
+        Mono<EquipeDTO> equipe = databaseClient.sql("select " + EQUIPE_COLUMNS + ", e.version, en.nom from equipe e "
+                        + "left join entreprise en on en.id_entreprise = e.entreprise_id_entreprise where e.id_equipe = :id")
+                .bind("id", idEquipe)
+                .map(row -> new EquipeDTO(row.get("id_equipe", Long.class), row.get("version", Long.class),
+                        row.get("nom_equipe", String.class),
+                        row.get("specialite", String.class), row.get("entreprise_id_entreprise", Long.class),
+                        row.get("nom", String.class), List.of()))
+                .one();
+        Mono<List<ProjetSummaryDTO>> projets = databaseClient.sql("select p.id_projet, p.nom_projet, p.type_projet from projet p "
+                        + "join " + PROJETS_JOIN_TABLE + " l on l." + PROJETS_JOIN_PROJET_COLUMN + " = p.id_projet "
+                        + "where l." + PROJETS_JOIN_EQUIPE_COLUMN + " = :id order by p.id_projet")
+                .bind("id", idEquipe)
+                .map(ReactiveReadRepository::projetSummary)
+                .all()
+                .collectList();
+        return equipe.zipWith(projets, (e, p) ->
+                new EquipeDTO(e.idEquipe(), e.version(), e.nomEquipe(), e.specialite(), e.idEntreprise(), e.nomEntreprise(), p));
+    }
+
+    public Flux<EntrepriseSummaryDTO> findAllEntreprises() {
+        return databaseClient.sql("select id_entreprise, nom, adresse from entreprise order by id_entreprise")
+                .map(row -> new EntrepriseSummaryDTO(row.get("id_entreprise", Long.class),
+                        row.get("nom", String.class), row.get("adresse", String.class)))
+                .all();
+    }
+
+    public Mono<EntrepriseDTO> findEntrepriseById(long idEntreprise) {
+        Mono<EntrepriseDTO> entreprise = databaseClient.sql("select id_entreprise, version, nom, adresse from entreprise where id_entreprise = :id")
+                .bind("id", idEntreprise)
+                .map(row -> new EntrepriseDTO(row.get("id_entreprise", Long.class), row.get("version", Long.class),
+                        row.get("nom", String.class), row.get("adresse", String.class), List.of()))
+                .one();
+        Mono<List<EquipeSummaryDTO>> equipes = databaseClient.sql("select " + EQUIPE_COLUMNS
+                        + " from equipe e where e.entreprise_id_entreprise = :id order by e.id_equipe")
+                .bind("id", idEntreprise)
+                .map(ReactiveReadRepository::equipeSummary)
+                .all()
+                .collectList();
+        return entreprise.zipWith(equipes, (en, e) ->
+                new EntrepriseDTO(en.idEntreprise(), en.version(), en.nom(), en.adresse(), e));
+    }
+
+    private static ProjetSummaryDTO projetSummary(Readable row) {
+        return new ProjetSummaryDTO(row.get("id_projet", Long.class), row.get("nom_projet", String.class),
+                typeProjet(row.get("type_projet", String.class)));
+    }
+
+    private static EquipeSummaryDTO equipeSummary(Readable row) {
+        return new EquipeSummaryDTO(row.get("id_equipe", Long.class), row.get("nom_equipe", String.class),
+                row.get("specialite", String.class), row.get("entreprise_id_entreprise", Long.class));
+    }
+
+    private static TypeProjet typeProjet(String value) {
+        return value == null ? null : TypeProjet.valueOf(value);
+    }
+}
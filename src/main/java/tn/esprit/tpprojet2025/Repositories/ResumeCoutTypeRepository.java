@@ -0,0 +1,21 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tn.esprit.tpprojet2025.Entities.ResumeCoutType;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.Optional;
+
+@Repository
+public interface ResumeCoutTypeRepository extends JpaRepository<ResumeCoutType, TypeProjet> {
+
+    // Verrou exclusif sur la ligne du type : un seul recalcul à la fois, toutes instances confondues
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ResumeCoutType r where r.typeProjet = :typeProjet")
+    Optional<ResumeCoutType> findForUpdateByTypeProjet(@Param("typeProjet") TypeProjet typeProjet);
+}
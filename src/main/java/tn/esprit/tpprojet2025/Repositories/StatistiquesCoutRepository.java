@@ -0,0 +1,52 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tn.esprit.tpprojet2025.DTO.CoutMensuelDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEquipeDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Agrégations des coûts calculées par la base (GROUP BY) et projetées directement en DTO,
+ * sans charger d'entités. Seuls les projets ayant un détail sont pris en compte.
+ */
+@Repository
+public interface StatistiquesCoutRepository extends org.springframework.data.repository.Repository<Projet, Long> {
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.CoutParTypeDTO(p.typeProjet, count(p), sum(d.Cout), avg(d.Cout), max(d.Cout)) " +
+            "from Projet p join p.projetDetail d where p.typeProjet is not null " +
+            "group by p.typeProjet order by p.typeProjet")
+    List<CoutParTypeDTO> findCoutsParType();
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.CoutParTypeDTO(p.typeProjet, count(p), sum(d.Cout), avg(d.Cout), max(d.Cout)) " +
+            "from Projet p join p.projetDetail d where p.typeProjet = :typeProjet group by p.typeProjet")
+    Optional<CoutParTypeDTO> findCoutsByTypeProjet(@Param("typeProjet") TypeProjet typeProjet);
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.CoutParEquipeDTO(e.idEquipe, e.nomEquipe, count(p), sum(d.Cout), avg(d.Cout), max(d.Cout)) " +
+            "from Equipe e join e.projets p join p.projetDetail d " +
+            "group by e.idEquipe, e.nomEquipe order by e.idEquipe")
+    List<CoutParEquipeDTO> findCoutsParEquipe();
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.CoutParEntrepriseDTO(en.idEntreprise, en.nom, count(p), sum(d.Cout), avg(d.Cout), max(d.Cout)) " +
+            "from Entreprise en, Projet p join p.projetDetail d " +
+            "where exists (select 1 from Equipe e join e.projets ep where e.entreprise = en and ep = p) " +
+            "group by en.idEntreprise, en.nom order by en.idEntreprise")
+    List<CoutParEntrepriseDTO> findCoutsParEntreprise();
+
+    @Query("select new tn.esprit.tpprojet2025.DTO.CoutMensuelDTO(extract(year from d.dateDebut), extract(month from d.dateDebut), " +
+            "count(p), sum(d.Cout), avg(d.Cout), max(d.Cout)) " +
+            "from Projet p join p.projetDetail d where d.dateDebut is not null " +
+            "group by extract(year from d.dateDebut), extract(month from d.dateDebut) " +
+            "order by extract(year from d.dateDebut), extract(month from d.dateDebut)")
+    List<CoutMensuelDTO> findCoutsMensuels();
+
+    @Query("select p.typeProjet from Projet p where p.projetDetail.idProjetDetail = :idProjetDetail")
+    Optional<TypeProjet> findTypeProjetByIdProjetDetail(@Param("idProjetDetail") Long idProjetDetail);
+}
@@ -0,0 +1,186 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.CoutMensuelDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEquipeDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.Entities.ResumeCoutType;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.ResumeCoutTypeRepository;
+import tn.esprit.tpprojet2025.Repositories.StatistiquesCoutRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * La table de synthèse resume_cout_type est recalculée type par type hors des transactions d'écriture :
+ * une écriture demande le recalcul de ses types, lancé après son commit par un unique thread. Chaque recalcul
+ * verrouille la ligne du type puis relit l'agrégat : il voit tous les commits qui l'ont demandé, et deux
+ * recalculs d'un même type (y compris sur deux instances) ne s'écrasent pas. Une écriture n'attend ni ne
+ * partage aucune ligne de synthèse ; la synthèse suit les écritures à quelques millisecondes près.
+ */
+@Service
+public class AnalyticsServicesImpl implements IAnalyticsServices {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsServicesImpl.class);
+
+    @Autowired
+    private StatistiquesCoutRepository statistiquesCoutRepository;
+
+    @Autowired
+    private ResumeCoutTypeRepository resumeCoutTypeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Sans table de synthèse, les coûts par type sont recalculés à chaque lecture
+    @Value("${analytics.resume.enabled:true}")
+    private boolean resumeActif;
+
+    // Types demandés et pas encore recalculés : plusieurs demandes rapprochées donnent un seul recalcul
+    private final Set<TypeProjet> typesEnAttente = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService recalculs = Executors.newSingleThreadExecutor(r -> new Thread(r, "resume-cout-type"));
+
+    @PreDestroy
+    void arreter() throws InterruptedException {
+        recalculs.shutdown();
+        recalculs.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoutParTypeDTO> afficherCoutsParType() {
+        return statistiquesCoutRepository.findCoutsParType();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoutParEquipeDTO> afficherCoutsParEquipe() {
+        return statistiquesCoutRepository.findCoutsParEquipe();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoutParEntrepriseDTO> afficherCoutsParEntreprise() {
+        return statistiquesCoutRepository.findCoutsParEntreprise();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoutMensuelDTO> afficherCoutsMensuels() {
+        return statistiquesCoutRepository.findCoutsMensuels();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoutParTypeDTO> afficherResumeParType() {
+        if (!resumeActif) {
+            return statistiquesCoutRepository.findCoutsParType();
+        }
+        // Les lignes des types sans projet chiffré restent en place (verrou des recalculs) à zéro
+        return resumeCoutTypeRepository.findAll().stream()
+                .filter(r -> r.getNombreProjets() != null && r.getNombreProjets() > 0)
+                .sorted(Comparator.comparing(r -> r.getTypeProjet().name()))
+                .map(r -> new CoutParTypeDTO(r.getTypeProjet(), r.getNombreProjets(), r.getCoutTotal(),
+                        r.getCoutMoyen(), r.getCoutMax()))
+                .toList();
+    }
+
+    @Override
+    public void rafraichirResumeType(TypeProjet typeProjet) {
+        if (!resumeActif || typeProjet == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            planifier(typeProjet);
+            return;
+        }
+        // Un rollback ne déclenche aucun recalcul
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                planifier(typeProjet);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void rafraichirResumeProjetDetail(long idProjetDetail) {
+        if (!resumeActif) {
+            return;
+        }
+        statistiquesCoutRepository.findTypeProjetByIdProjetDetail(idProjetDetail).ifPresent(this::rafraichirResumeType);
+    }
+
+    // Au démarrage, chaque type est recalculé comme après une écriture (et sa ligne créée au besoin)
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruireResume() {
+        if (!resumeActif) {
+            return;
+        }
+        for (TypeProjet typeProjet : TypeProjet.values()) {
+            recalculer(typeProjet);
+        }
+    }
+
+    private void planifier(TypeProjet typeProjet) {
+        if (typesEnAttente.add(typeProjet)) {
+            recalculs.execute(() -> {
+                // Retiré avant la lecture : un commit postérieur replanifie le type
+                typesEnAttente.remove(typeProjet);
+                try {
+                    recalculer(typeProjet);
+                } catch (DataIntegrityViolationException e) {
+                    // Ligne créée entre-temps par une autre instance : elle existe au prochain essai
+                    planifier(typeProjet);
+                } catch (RuntimeException e) {
+                    log.error("Recalcul de la synthèse des coûts du type {} abandonné", typeProjet, e);
+                }
+            });
+        }
+    }
+
+    // Verrou pris avant l'agrégat (limité au type, index type_projet) : la lecture suit le commit du recalcul précédent
+    private void recalculer(TypeProjet typeProjet) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ResumeCoutType resume = resumeCoutTypeRepository.findForUpdateByTypeProjet(typeProjet).orElseGet(() -> {
+                ResumeCoutType nouveau = new ResumeCoutType();
+                nouveau.setTypeProjet(typeProjet);
+                return nouveau;
+            });
+            miseAJour(resume, statistiquesCoutRepository.findCoutsByTypeProjet(typeProjet)
+                    .orElseGet(() -> new CoutParTypeDTO(typeProjet, 0L, 0L, null, null)));
+            resumeCoutTypeRepository.save(resume);
+        });
+    }
+
+    private static void miseAJour(ResumeCoutType resume, CoutParTypeDTO agregat) {
+        resume.setNombreProjets(agregat.nombreProjets());
+        resume.setCoutTotal(agregat.coutTotal());
+        resume.setCoutMoyen(agregat.coutMoyen());
+        resume.setCoutMax(agregat.coutMax());
+        resume.setDateMiseAJour(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,37 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Insertion en masse : les entités sont enregistrées par paquets de la taille du lot JDBC,
+ * puis le contexte de persistance est vidé pour que la mémoire reste bornée.
+ */
+@Component
+public class BulkPersister {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Transactional
+    public <T> List<T> saveAll(JpaRepository<T, Long> repository, List<T> entities) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+            saved.addAll(repository.saveAll(chunk));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return saved;
+    }
+}
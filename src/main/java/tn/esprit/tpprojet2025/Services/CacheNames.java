@@ -0,0 +1,13 @@
+package tn.esprit.tpprojet2025.Services;
+
+/** Noms des caches applicatifs (Spring Cache) contenant les vues DTO lues par ID. */
+public final class CacheNames {
+
+    public static final String PROJETS = "projets";
+    public static final String PROJET_DETAILS = "projetDetails";
+    public static final String EQUIPES = "equipes";
+    public static final String ENTREPRISES = "entreprises";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,68 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+import tn.esprit.tpprojet2025.DTO.CacheRegionStatsDTO;
+import tn.esprit.tpprojet2025.DTO.CacheStatsDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@AllArgsConstructor
+public class CacheServicesImpl implements ICacheServices {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Override
+    public List<CacheRegionStatsDTO> afficherStatistiquesCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<CacheStatsDTO> afficherStatistiquesCacheServices() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                // Caches enveloppés par CachesTransactionnels
+                .map(cache -> cache instanceof TransactionAwareCacheDecorator decorateur ? decorateur.getTargetCache() : cache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    CacheStats stats = cache.getNativeCache().stats();
+                    return new CacheStatsDTO(cache.getName(), stats.hitCount(), stats.missCount(),
+                            stats.evictionCount(), cache.getNativeCache().estimatedSize(), stats.hitRate());
+                })
+                .toList();
+    }
+
+    private static CacheRegionStatsDTO toDto(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return null;
+        }
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        double ratio = hits + misses == 0 ? 0d : (double) hits / (hits + misses);
+        return new CacheRegionStatsDTO(region, hits, misses, stats.getPutCount(),
+                stats.getElementCountInMemory(), ratio);
+    }
+}
@@ -0,0 +1,95 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.esprit.tpprojet2025.Repositories.EntrepriseRepository;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+import tn.esprit.tpprojet2025.Services.VersionsTables.Table;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Lues avant chaque GET conditionnel : par ID, transactions readOnly servies par la réplique si elle existe ;
+// listes et pages, compteurs en mémoire sans requête
+@Service
+public class EmpreintesServicesImpl implements IEmpreintesServices {
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private ProjetDetailRepository projetDetailRepository;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private VersionsTables versionsTables;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> empreinteProjet(long idProjet) {
+        return empreinte(projetRepository.findVersionsByIdProjet(idProjet));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> empreinteProjetDetail(long idProjetDetail) {
+        return empreinte(projetDetailRepository.findVersionsByIdProjetDetail(idProjetDetail));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> empreinteEquipe(long idEquipe) {
+        return empreinte(equipeRepository.findVersionsByIdEquipe(idEquipe));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> empreinteEntreprise(long idEntreprise) {
+        return empreinte(entrepriseRepository.findVersionsByIdEntreprise(idEntreprise));
+    }
+
+    // Les listes dépendent des mêmes tables que les DTO qui les composent
+    @Override
+    public String empreinteProjets() {
+        return versionsTables.version(EnumSet.of(Table.PROJET, Table.PROJET_DETAIL, Table.EQUIPE));
+    }
+
+    @Override
+    public String empreinteProjetDetails() {
+        return versionsTables.version(EnumSet.of(Table.PROJET_DETAIL, Table.PROJET));
+    }
+
+    @Override
+    public String empreinteEquipes() {
+        return versionsTables.version(EnumSet.of(Table.EQUIPE, Table.ENTREPRISE, Table.PROJET));
+    }
+
+    @Override
+    public String empreinteEntreprises() {
+        return versionsTables.version(EnumSet.of(Table.ENTREPRISE, Table.EQUIPE));
+    }
+
+    // Pages d'entités sérialisées avec leurs associations : toutes les tables
+    @Override
+    public String empreinteGlobale() {
+        return versionsTables.version(EnumSet.allOf(Table.class));
+    }
+
+    private static Optional<String> empreinte(List<Object[]> lignes) {
+        if (lignes.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(lignes.stream().map(Arrays::toString).collect(Collectors.joining("|")));
+    }
+}
@@ -2,40 +2,128 @@ package tn.esprit.tpprojet2025.Services;
 
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.esprit.tpprojet2025.DTO.EntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.EntrepriseSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Mappers.EntrepriseMapper;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapper;
 import tn.esprit.tpprojet2025.Repositories.EntrepriseRepository;
 
 import java.util.List;
 
 @Service
+@Transactional
 @AllArgsConstructor
 public class EntrepriseServicesImpl implements IEntrepriseServices {
 
     @Autowired
     private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private BulkPersister bulkPersister;
+
+    @Autowired
+    private EntrepriseMapper entrepriseMapper;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
+    @Autowired
+    private IGrapheEquipesServices grapheEquipes;
+
     @Override
     public Entreprise AjouterEntreprise(Entreprise entreprise) {
         return entrepriseRepository.save(entreprise);
     }
 
     @Override
+    public List<Entreprise> AjouterEntreprises(List<Entreprise> entreprises) {
+        return bulkPersister.saveAll(entrepriseRepository, entreprises);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Entreprise> afficherListeEntreprise() {
         return entrepriseRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Entreprise> afficherPageEntreprises(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<Entreprise> rows = entrepriseRepository.findByIdEntrepriseGreaterThanOrderByIdEntrepriseAsc(
+                PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, Entreprise::getIdEntreprise);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Entreprise afficherEntrepriseSelonID(long idEntreprise) {
         return entrepriseRepository.findById(idEntreprise).get();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<EntrepriseDTO> afficherListeEntrepriseDTO() {
+        return entrepriseRepository.findAllWithEquipes().stream().map(entrepriseMapper::toDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.ENTREPRISES)
+    public EntrepriseDTO afficherEntrepriseDTOSelonID(long idEntreprise) {
+        // findById passe par le cache de second niveau (entité + collection equipes)
+        return entrepriseMapper.toDTO(entrepriseRepository.findById(idEntreprise).get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EntrepriseDTO> afficherPageEntreprisesDTO(String pageToken, int size) {
+        return afficherPageEntreprises(pageToken, size).map(entrepriseMapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EntrepriseSummaryDTO> afficherListeEntreprisesResume() {
+        return entrepriseRepository.findResumesAfter(0L, Pageable.unpaged());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EntrepriseSummaryDTO> afficherPageEntreprisesResume(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<EntrepriseSummaryDTO> rows = entrepriseRepository.findResumesAfter(PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, EntrepriseSummaryDTO::idEntreprise);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EntrepriseSummaryDTO afficherEntrepriseResumeSelonID(long idEntreprise) {
+        return resumeMapper.toResume(entrepriseRepository.findById(idEntreprise).get());
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ENTREPRISES, key = "#entreprise.idEntreprise", condition = "#entreprise.idEntreprise != null"),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true)
+    })
     public Entreprise modifierEntreprise(Entreprise entreprise) {
         return entrepriseRepository.save(entreprise);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ENTREPRISES, key = "#idEntreprise"),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true)
+    })
     public void supprimerEntreprise(long idEntreprise) {
          entrepriseRepository.deleteById(idEntreprise);
+         grapheEquipes.entrepriseSupprimee(idEntreprise);
     }
 }
@@ -1,42 +1,264 @@
 package tn.esprit.tpprojet2025.Services;
 
 import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.esprit.tpprojet2025.DTO.EquipeDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Mappers.EquipeMapper;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapper;
 import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional
 @AllArgsConstructor
 public class EquipeServicesImpl implements IEquipeServices {
 
     @Autowired
     private EquipeRepository equipeRepository;
 
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private BulkPersister bulkPersister;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private IAnalyticsServices analyticsServices;
+
+    @Autowired
+    private IGrapheEquipesServices grapheEquipes;
+
+    @Autowired
+    private EquipeMapper equipeMapper;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ENTREPRISES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true)
+    })
     public Equipe AjouterEquipe(Equipe equipe) {
-        return equipeRepository.save(equipe) ;
+        ProjetsAvant avant = projetsAvant(equipe);
+        Equipe saved = equipeRepository.save(equipe);
+        projetsEcrits(avant, saved);
+        grapheEquipes.equipesModifiees(List.of(saved.getIdEquipe()));
+        return saved;
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ENTREPRISES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true)
+    })
+    public List<Equipe> AjouterEquipes(List<Equipe> equipes) {
+        List<ProjetsAvant> avant = equipes.stream().map(this::projetsAvant).toList();
+        List<Equipe> saved = bulkPersister.saveAll(equipeRepository, equipes);
+        for (int i = 0; i < saved.size(); i++) {
+            projetsEcrits(avant.get(i), saved.get(i));
+        }
+        grapheEquipes.equipesModifiees(saved.stream().map(Equipe::getIdEquipe).toList());
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Equipe> afficherListeEquipes() {
         return equipeRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Equipe> afficherPageEquipes(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<Equipe> rows = equipeRepository.findByIdEquipeGreaterThanOrderByIdEquipeAsc(
+                PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, Equipe::getIdEquipe);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Equipe afficherEquipeSelonID(long idEquipe) {
         return equipeRepository.findById(idEquipe).get();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<EquipeDTO> afficherListeEquipesDTO() {
+        return equipeRepository.findAllWithEntrepriseAndProjets().stream().map(equipeMapper::toDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.EQUIPES)
+    public EquipeDTO afficherEquipeDTOSelonID(long idEquipe) {
+        // findById passe par le cache de second niveau (entité + collection projets)
+        return equipeMapper.toDTO(equipeRepository.findById(idEquipe).get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EquipeDTO> afficherPageEquipesDTO(String pageToken, int size) {
+        return afficherPageEquipes(pageToken, size).map(equipeMapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EquipeSummaryDTO> afficherListeEquipesResume() {
+        return equipeRepository.findResumesAfter(0L, Pageable.unpaged());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<EquipeSummaryDTO> afficherPageEquipesResume(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<EquipeSummaryDTO> rows = equipeRepository.findResumesAfter(PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, EquipeSummaryDTO::idEquipe);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EquipeSummaryDTO afficherEquipeResumeSelonID(long idEquipe) {
+        return resumeMapper.toResume(equipeRepository.findById(idEquipe).get());
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, key = "#equipe.idEquipe", condition = "#equipe.idEquipe != null"),
+            @CacheEvict(cacheNames = CacheNames.ENTREPRISES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true)
+    })
     public Equipe modifierEquipe(Equipe equipe) {
-        return equipeRepository.save(equipe);
+        ProjetsAvant avant = projetsAvant(equipe);
+        Equipe saved = equipeRepository.save(equipe);
+        projetsEcrits(avant, saved);
+        grapheEquipes.equipesModifiees(List.of(saved.getIdEquipe()));
+        return saved;
     }
 
     @Override
+    // La suppression cascade vers l'entreprise et les projets de l'équipe
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.ENTREPRISES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    })
     public void supprimerEquipe(long idEquipe) {
+      // Projets supprimés avec l'équipe, relevés avant la suppression : compteurs décrémentés un à un
+      // et synthèse rafraîchie pour leurs seuls types
+      List<Projet> projets = equipeRepository.findById(idEquipe).map(e -> List.copyOf(e.getProjets())).orElse(List.of());
+      Map<Long, List<Long>> equipesParProjet = projets.stream().collect(Collectors.toMap(Projet::getIdProjet,
+              p -> p.getEquipes().stream().map(Equipe::getIdEquipe).toList()));
       equipeRepository.deleteById(idEquipe);
+      projets.forEach(p -> statistiquesProjets.projetSupprime(p.getTypeProjet(), cout(p.getProjetDetail()),
+              equipesParProjet.get(p.getIdProjet())));
+      projets.stream().filter(p -> p.getProjetDetail() != null).map(Projet::getTypeProjet).distinct()
+              .forEach(analyticsServices::rafraichirResumeType);
+      grapheEquipes.equipeSupprimee(idEquipe);
+    }
+
+    /**
+     * Projets liés à l'équipe et projets fournis avec elle, tels qu'en base avant l'écriture en cascade ;
+     * {@code fournis} est faux quand la collection n'était pas chargée et que l'écriture ne touche pas aux projets.
+     */
+    private record ProjetsAvant(boolean fournis, Set<Long> lies, Map<Long, EtatProjet> etats, boolean detailsRepris) {
+    }
+
+    private record EtatProjet(TypeProjet typeProjet, Long idProjetDetail, Long cout) {
+    }
+
+    private ProjetsAvant projetsAvant(Equipe equipe) {
+        // Collection non chargée (équipe détachée modifiée sans ses projets) : la fusion ne touche pas aux liens.
+        // Une équipe null est laissée au repository, qui la rejette
+        if (equipe == null || !Hibernate.isInitialized(equipe.getProjets())) {
+            return new ProjetsAvant(false, Set.of(), Map.of(), false);
+        }
+        Set<Long> lies = equipe.getIdEquipe() == null ? Set.of()
+                : equipeRepository.findProjetIdsByIdEquipeIn(List.of(equipe.getIdEquipe())).stream()
+                        .map(lien -> (Long) lien[1]).collect(Collectors.toSet());
+        Set<Long> ids = new HashSet<>(lies);
+        projets(equipe).stream().map(Projet::getIdProjet).filter(Objects::nonNull).forEach(ids::add);
+        // Une équipe sans projet (renommage, nouvelle équipe vide) ne coûte aucune requête
+        Map<Long, EtatProjet> etats = ids.isEmpty() ? Map.of()
+                : projetRepository.findTypesEtDetailsByIdProjetIn(ids).stream().collect(Collectors.toMap(
+                        ligne -> (Long) ligne[0],
+                        ligne -> new EtatProjet((TypeProjet) ligne[1], (Long) ligne[2], (Long) ligne[3])));
+        // Nouveau projet rattaché à un détail existant : le détail quitte peut-être un autre projet
+        boolean detailsRepris = projets(equipe).stream().anyMatch(p -> (p.getIdProjet() == null || !etats.containsKey(p.getIdProjet()))
+                && p.getProjetDetail() != null && p.getProjetDetail().getIdProjetDetail() != null);
+        return new ProjetsAvant(true, lies, etats, detailsRepris);
+    }
+
+    // Compteurs mis à jour par différence avec l'état d'avant l'écriture, comme modifierProjet ; recalcul complet
+    // seulement si un détail change de projet. Synthèse par type rafraîchie pour les seuls types dont un projet
+    // a été créé ou a changé de type ou de détail
+    private void projetsEcrits(ProjetsAvant avant, Equipe saved) {
+        if (!avant.fournis()) {
+            return;
+        }
+        Set<TypeProjet> types = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        boolean reconstruire = avant.detailsRepris();
+        for (Projet projet : projets(saved)) {
+            ids.add(projet.getIdProjet());
+            EtatProjet etat = avant.etats().get(projet.getIdProjet());
+            ProjetDetail detail = projet.getProjetDetail();
+            Long idDetail = detail == null ? null : detail.getIdProjetDetail();
+            if (etat == null) {
+                statistiquesProjets.projetAjoute(projet.getTypeProjet(), cout(detail));
+                if (detail != null) {
+                    types.add(projet.getTypeProjet());
+                }
+            } else if (etat.typeProjet() != projet.getTypeProjet()
+                    || !Objects.equals(etat.idProjetDetail(), idDetail)
+                    || !Objects.equals(etat.cout(), cout(detail))) {
+                if (Objects.equals(etat.idProjetDetail(), idDetail)) {
+                    statistiquesProjets.typeModifie(etat.typeProjet(), projet.getTypeProjet());
+                    statistiquesProjets.coutModifie(etat.cout(), cout(detail));
+                } else {
+                    reconstruire = true;
+                }
+                types.add(etat.typeProjet());
+                types.add(projet.getTypeProjet());
+            }
+        }
+        if (reconstruire) {
+            statistiquesProjets.reconstruire();
+        } else {
+            // Liens ajoutés et retirés par la fusion de la collection
+            ids.stream().filter(id -> !avant.lies().contains(id))
+                    .forEach(id -> statistiquesProjets.projetAffecte(saved.getIdEquipe()));
+            avant.lies().stream().filter(id -> !ids.contains(id))
+                    .forEach(id -> statistiquesProjets.projetDesaffecte(saved.getIdEquipe()));
+        }
+        types.stream().filter(Objects::nonNull).forEach(analyticsServices::rafraichirResumeType);
+    }
+
+    private static Set<Projet> projets(Equipe equipe) {
+        return equipe.getProjets() == null || !Hibernate.isInitialized(equipe.getProjets()) ? Set.of() : equipe.getProjets();
+    }
+
+    private static Long cout(ProjetDetail projetDetail) {
+        return projetDetail == null ? null : projetDetail.getCout();
     }
 }
@@ -0,0 +1,288 @@
+package tn.esprit.tpprojet2025.Services;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Graphe Entreprise → Equipe → Projet tenu en mémoire sous forme de listes d'adjacence à clés
+ * {@code long} (sans boxing) : chargé depuis la base au démarrage, puis mis à jour par les services
+ * d'écriture après chaque commit. Les parcours ne touchent jamais la base.
+ */
+@Service
+public class GrapheEquipesServicesImpl implements IGrapheEquipesServices {
+
+    private static final long AUCUNE = -1L;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    // Protégé par verrou : les ensembles d'adjacence ne sont pas thread-safe
+    private Adjacence adjacence = new Adjacence();
+
+    @Override
+    public long[] projetsDeLEntreprise(long idEntreprise) {
+        return lire(a -> {
+            LongOpenHashSet projets = new LongOpenHashSet();
+            for (LongIterator equipes = a.equipes(idEntreprise); equipes.hasNext(); ) {
+                LongOpenHashSet projetsEquipe = a.projetsParEquipe.get(equipes.nextLong());
+                if (projetsEquipe != null) {
+                    projets.addAll(projetsEquipe);
+                }
+            }
+            return projets;
+        });
+    }
+
+    @Override
+    public long[] equipesDuProjet(long idProjet) {
+        return lire(a -> {
+            LongOpenHashSet equipes = a.equipesParProjet.get(idProjet);
+            return equipes == null ? new LongOpenHashSet() : equipes.clone();
+        });
+    }
+
+    @Override
+    public long[] equipesPartageantUnProjet(long idEquipe) {
+        return lire(a -> {
+            LongOpenHashSet equipes = a.equipesVoisines(idEquipe);
+            equipes.remove(idEquipe);
+            return equipes;
+        });
+    }
+
+    @Override
+    public long[] entreprisesPartenaires(long idEntreprise) {
+        return lire(a -> {
+            LongOpenHashSet entreprises = new LongOpenHashSet();
+            for (LongIterator equipes = a.equipes(idEntreprise); equipes.hasNext(); ) {
+                for (LongIterator voisines = a.equipesVoisines(equipes.nextLong()).iterator(); voisines.hasNext(); ) {
+                    long partenaire = a.entrepriseParEquipe.get(voisines.nextLong());
+                    if (partenaire != AUCUNE && partenaire != idEntreprise) {
+                        entreprises.add(partenaire);
+                    }
+                }
+            }
+            return entreprises;
+        });
+    }
+
+    @Override
+    public void lienAjoute(long idEquipe, long idProjet) {
+        apresCommit(() -> ecrire(a -> a.lier(idEquipe, idProjet)));
+    }
+
+    @Override
+    public void lienRetire(long idEquipe, long idProjet) {
+        apresCommit(() -> ecrire(a -> a.delier(idEquipe, idProjet)));
+    }
+
+    @Override
+    public void equipesModifiees(Collection<Long> idsEquipes) {
+        List<Long> ids = List.copyOf(idsEquipes);
+        if (ids.isEmpty()) {
+            return;
+        }
+        // L'entreprise et les projets d'une équipe sauvegardée en cascade ne sont connus qu'une fois commités
+        apresCommit(() -> {
+            List<Object[]> entreprises = equipeRepository.findEntrepriseIdsByIdEquipeIn(ids);
+            List<Object[]> projets = equipeRepository.findProjetIdsByIdEquipeIn(ids);
+            ecrire(a -> {
+                ids.forEach(a::retirerEquipe);
+                a.charger(entreprises, projets);
+            });
+        });
+    }
+
+    @Override
+    public void equipeSupprimee(long idEquipe) {
+        // Même cascade que Equipe : l'entreprise et les projets de l'équipe disparaissent avec elle
+        apresCommit(() -> ecrire(a -> {
+            long idEntreprise = a.entrepriseParEquipe.get(idEquipe);
+            LongOpenHashSet projets = a.projetsParEquipe.get(idEquipe);
+            a.retirerEquipe(idEquipe);
+            if (projets != null) {
+                for (LongIterator it = projets.iterator(); it.hasNext(); ) {
+                    a.retirerProjet(it.nextLong());
+                }
+            }
+            if (idEntreprise != AUCUNE) {
+                a.retirerEntreprise(idEntreprise);
+            }
+        }));
+    }
+
+    @Override
+    public void projetSupprime(long idProjet) {
+        apresCommit(() -> ecrire(a -> a.retirerProjet(idProjet)));
+    }
+
+    @Override
+    public void entrepriseSupprimee(long idEntreprise) {
+        apresCommit(() -> ecrire(a -> a.retirerEntreprise(idEntreprise)));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruire() {
+        apresCommit(() -> {
+            Adjacence nouvelle = new Adjacence();
+            nouvelle.charger(equipeRepository.findEntrepriseIds(), equipeRepository.findProjetIds());
+            ecrire(ignore -> adjacence = nouvelle);
+        });
+    }
+
+    private long[] lire(Function<Adjacence, LongOpenHashSet> parcours) {
+        long[] ids;
+        verrou.readLock().lock();
+        try {
+            ids = parcours.apply(adjacence).toLongArray();
+        } finally {
+            verrou.readLock().unlock();
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private void ecrire(Consumer<Adjacence> miseAJour) {
+        verrou.writeLock().lock();
+        try {
+            miseAJour.accept(adjacence);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    // Dans une transaction, la mise à jour n'est appliquée qu'après le commit : un rollback ne fausse pas le graphe
+    private static void apresCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** Listes d'adjacence dans les deux sens ; une équipe a au plus une entreprise. */
+    private static final class Adjacence {
+        private final Long2LongOpenHashMap entrepriseParEquipe = new Long2LongOpenHashMap();
+        private final Long2ObjectOpenHashMap<LongOpenHashSet> equipesParEntreprise = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<LongOpenHashSet> projetsParEquipe = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<LongOpenHashSet> equipesParProjet = new Long2ObjectOpenHashMap<>();
+
+        private Adjacence() {
+            entrepriseParEquipe.defaultReturnValue(AUCUNE);
+        }
+
+        private void charger(List<Object[]> entreprises, List<Object[]> projets) {
+            for (Object[] ligne : entreprises) {
+                if (ligne[1] != null) {
+                    rattacher((Long) ligne[0], (Long) ligne[1]);
+                }
+            }
+            for (Object[] ligne : projets) {
+                lier((Long) ligne[0], (Long) ligne[1]);
+            }
+        }
+
+        private LongIterator equipes(long idEntreprise) {
+            LongOpenHashSet equipes = equipesParEntreprise.get(idEntreprise);
+            return equipes == null ? new LongOpenHashSet().iterator() : equipes.iterator();
+        }
+
+        // Équipes reliées à idEquipe par au moins un projet, idEquipe comprise
+        private LongOpenHashSet equipesVoisines(long idEquipe) {
+            LongOpenHashSet voisines = new LongOpenHashSet();
+            LongOpenHashSet projets = projetsParEquipe.get(idEquipe);
+            if (projets != null) {
+                for (LongIterator it = projets.iterator(); it.hasNext(); ) {
+                    voisines.addAll(equipesParProjet.get(it.nextLong()));
+                }
+            }
+            return voisines;
+        }
+
+        private void rattacher(long idEquipe, long idEntreprise) {
+            entrepriseParEquipe.put(idEquipe, idEntreprise);
+            ajouter(equipesParEntreprise, idEntreprise, idEquipe);
+        }
+
+        private void lier(long idEquipe, long idProjet) {
+            ajouter(projetsParEquipe, idEquipe, idProjet);
+            ajouter(equipesParProjet, idProjet, idEquipe);
+        }
+
+        private void delier(long idEquipe, long idProjet) {
+            retirer(projetsParEquipe, idEquipe, idProjet);
+            retirer(equipesParProjet, idProjet, idEquipe);
+        }
+
+        private void retirerEquipe(long idEquipe) {
+            long idEntreprise = entrepriseParEquipe.remove(idEquipe);
+            if (idEntreprise != AUCUNE) {
+                retirer(equipesParEntreprise, idEntreprise, idEquipe);
+            }
+            LongOpenHashSet projets = projetsParEquipe.remove(idEquipe);
+            if (projets != null) {
+                for (LongIterator it = projets.iterator(); it.hasNext(); ) {
+                    retirer(equipesParProjet, it.nextLong(), idEquipe);
+                }
+            }
+        }
+
+        private void retirerProjet(long idProjet) {
+            LongOpenHashSet equipes = equipesParProjet.remove(idProjet);
+            if (equipes != null) {
+                for (LongIterator it = equipes.iterator(); it.hasNext(); ) {
+                    retirer(projetsParEquipe, it.nextLong(), idProjet);
+                }
+            }
+        }
+
+        private void retirerEntreprise(long idEntreprise) {
+            LongOpenHashSet equipes = equipesParEntreprise.remove(idEntreprise);
+            if (equipes != null) {
+                for (LongIterator it = equipes.iterator(); it.hasNext(); ) {
+                    entrepriseParEquipe.remove(it.nextLong());
+                }
+            }
+        }
+
+        private static void ajouter(Long2ObjectOpenHashMap<LongOpenHashSet> index, long cle, long valeur) {
+            LongOpenHashSet valeurs = index.get(cle);
+            if (valeurs == null) {
+                valeurs = new LongOpenHashSet();
+                index.put(cle, valeurs);
+            }
+            valeurs.add(valeur);
+        }
+
+        private static void retirer(Long2ObjectOpenHashMap<LongOpenHashSet> index, long cle, long valeur) {
+            LongOpenHashSet valeurs = index.get(cle);
+            if (valeurs != null && valeurs.remove(valeur) && valeurs.isEmpty()) {
+                index.remove(cle);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package tn.esprit.tpprojet2025.Services;
+
+import tn.esprit.tpprojet2025.DTO.CoutMensuelDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEquipeDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.List;
+
+public interface IAnalyticsServices {
+    List<CoutParTypeDTO> afficherCoutsParType();
+    List<CoutParEquipeDTO> afficherCoutsParEquipe();
+    List<CoutParEntrepriseDTO> afficherCoutsParEntreprise();
+    List<CoutMensuelDTO> afficherCoutsMensuels();
+    List<CoutParTypeDTO> afficherResumeParType();
+    void rafraichirResumeType(TypeProjet typeProjet);
+    void rafraichirResumeProjetDetail(long idProjetDetail);
+    void reconstruireResume();
+}
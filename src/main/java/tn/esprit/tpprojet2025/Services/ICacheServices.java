@@ -0,0 +1,11 @@
+package tn.esprit.tpprojet2025.Services;
+
+import tn.esprit.tpprojet2025.DTO.CacheRegionStatsDTO;
+import tn.esprit.tpprojet2025.DTO.CacheStatsDTO;
+
+import java.util.List;
+
+public interface ICacheServices {
+    List<CacheRegionStatsDTO> afficherStatistiquesCache();
+    List<CacheStatsDTO> afficherStatistiquesCacheServices();
+}
@@ -0,0 +1,19 @@
+package tn.esprit.tpprojet2025.Services;
+
+import java.util.Optional;
+
+/**
+ * Empreintes de version des représentations servies en lecture, calculées sans charger les entités ;
+ * vide quand la ressource n'existe pas.
+ */
+public interface IEmpreintesServices {
+    Optional<String> empreinteProjet(long idProjet);
+    Optional<String> empreinteProjetDetail(long idProjetDetail);
+    Optional<String> empreinteEquipe(long idEquipe);
+    Optional<String> empreinteEntreprise(long idEntreprise);
+    String empreinteProjets();
+    String empreinteProjetDetails();
+    String empreinteEquipes();
+    String empreinteEntreprises();
+    String empreinteGlobale();
+}
@@ -1,5 +1,7 @@
 package tn.esprit.tpprojet2025.Services;
 
+import tn.esprit.tpprojet2025.DTO.EntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.EntrepriseSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Entreprise;
 import tn.esprit.tpprojet2025.Entities.Equipe;
 import tn.esprit.tpprojet2025.Entities.Projet;
@@ -8,8 +10,16 @@ import java.util.List;
 
 public interface IEntrepriseServices {
     Entreprise AjouterEntreprise(Entreprise entreprise);
+    List<Entreprise> AjouterEntreprises(List<Entreprise> entreprises);
     List<Entreprise> afficherListeEntreprise();
+    KeysetPage<Entreprise> afficherPageEntreprises(String pageToken, int size);
     Entreprise afficherEntrepriseSelonID(long idEntreprise);
+    List<EntrepriseDTO> afficherListeEntrepriseDTO();
+    EntrepriseDTO afficherEntrepriseDTOSelonID(long idEntreprise);
+    KeysetPage<EntrepriseDTO> afficherPageEntreprisesDTO(String pageToken, int size);
+    List<EntrepriseSummaryDTO> afficherListeEntreprisesResume();
+    KeysetPage<EntrepriseSummaryDTO> afficherPageEntreprisesResume(String pageToken, int size);
+    EntrepriseSummaryDTO afficherEntrepriseResumeSelonID(long idEntreprise);
     Entreprise modifierEntreprise(Entreprise entreprise);
     void supprimerEntreprise(long idEntreprise);
 }
@@ -1,5 +1,7 @@
 package tn.esprit.tpprojet2025.Services;
 
+import tn.esprit.tpprojet2025.DTO.EquipeDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Equipe;
 
 
@@ -7,8 +9,16 @@ import java.util.List;
 
 public interface IEquipeServices {
     Equipe AjouterEquipe(Equipe equipe);
+    List<Equipe> AjouterEquipes(List<Equipe> equipes);
     List<Equipe> afficherListeEquipes();
+    KeysetPage<Equipe> afficherPageEquipes(String pageToken, int size);
     Equipe afficherEquipeSelonID(long idEquipe);
+    List<EquipeDTO> afficherListeEquipesDTO();
+    EquipeDTO afficherEquipeDTOSelonID(long idEquipe);
+    KeysetPage<EquipeDTO> afficherPageEquipesDTO(String pageToken, int size);
+    List<EquipeSummaryDTO> afficherListeEquipesResume();
+    KeysetPage<EquipeSummaryDTO> afficherPageEquipesResume(String pageToken, int size);
+    EquipeSummaryDTO afficherEquipeResumeSelonID(long idEquipe);
     Equipe modifierEquipe(Equipe equipe);
     void supprimerEquipe(long idEquipe);
 }
@@ -0,0 +1,17 @@
+package tn.esprit.tpprojet2025.Services;
+
+import java.util.Collection;
+
+public interface IGrapheEquipesServices {
+    long[] projetsDeLEntreprise(long idEntreprise);
+    long[] equipesDuProjet(long idProjet);
+    long[] equipesPartageantUnProjet(long idEquipe);
+    long[] entreprisesPartenaires(long idEntreprise);
+    void lienAjoute(long idEquipe, long idProjet);
+    void lienRetire(long idEquipe, long idProjet);
+    void equipesModifiees(Collection<Long> idsEquipes);
+    void equipeSupprimee(long idEquipe);
+    void projetSupprime(long idProjet);
+    void entrepriseSupprimee(long idEntreprise);
+    void reconstruire();
+}
@@ -0,0 +1,10 @@
+package tn.esprit.tpprojet2025.Services;
+
+import tn.esprit.tpprojet2025.DTO.IngestionStatutDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+
+public interface IIngestionProjetsServices {
+    IngestionStatutDTO soumettreProjet(String cle, Projet projet);
+    IngestionStatutDTO soumettreProjetEtAffecter(String cle, Projet projet, long idProjetDetail);
+    IngestionStatutDTO afficherStatut(String cle);
+}
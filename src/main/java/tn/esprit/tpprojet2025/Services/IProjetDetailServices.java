@@ -1,13 +1,19 @@
 package tn.esprit.tpprojet2025.Services;
 
+import tn.esprit.tpprojet2025.DTO.ProjetDetailDTO;
 import tn.esprit.tpprojet2025.Entities.ProjetDetail;
 
 import java.util.List;
 
 public interface IProjetDetailServices {
     ProjetDetail AjouterProjetDetail(ProjetDetail projetDetail);
+    List<ProjetDetail> AjouterProjetDetails(List<ProjetDetail> projetDetails);
     List<ProjetDetail> afficherListeProjetDetail();
+    KeysetPage<ProjetDetail> afficherPageProjetDetails(String pageToken, int size);
     ProjetDetail afficherProjetDetailSelonID(long idProjetDetail);
+    List<ProjetDetailDTO> afficherListeProjetDetailDTO();
+    ProjetDetailDTO afficherProjetDetailDTOSelonID(long idProjetDetail);
+    KeysetPage<ProjetDetailDTO> afficherPageProjetDetailsDTO(String pageToken, int size);
     ProjetDetail modifierProjetDetail(ProjetDetail projetDetail);
     void supprimerProjetDetail(long idProjetDetail);
 
@@ -1,14 +1,30 @@
 package tn.esprit.tpprojet2025.Services;
 
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import org.springframework.data.domain.Page;
+import tn.esprit.tpprojet2025.DTO.ProjetEquipeLinkDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetFiltreDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Projet;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface IProjetServices {
 
    Projet AjouterProjet(Projet projet);
+   List<Projet> AjouterProjets(List<Projet> projets);
    List <Projet> afficherListeProjets();
+   KeysetPage<Projet> afficherPageProjets(String pageToken, int size);
    Projet afficherProjetSelonID(long idProjet);
+   List<ProjetDTO> afficherListeProjetsDTO();
+   ProjetDTO afficherProjetDTOSelonID(long idProjet);
+   KeysetPage<ProjetDTO> afficherPageProjetsDTO(String pageToken, int size);
+   List<ProjetSummaryDTO> afficherListeProjetsResume();
+   KeysetPage<ProjetSummaryDTO> afficherPageProjetsResume(String pageToken, int size);
+   ProjetSummaryDTO afficherProjetResumeSelonID(long idProjet);
+   Page<ProjetDTO> rechercherProjets(ProjetFiltreDTO filtre, String tri, String direction, int page, int size);
    Projet modifierProjet(Projet projet);
    void supprimerProjet(long idProjet);
    void assignProjetDetailToProjet(long idProjet, long idProjetDetail);
@@ -16,4 +32,7 @@ public interface IProjetServices {
    Projet addProjetAndAssignProjetDetailToProjet(long idProjetDetail, Projet projet);
    void UnassignProjetDetailFromProjet(long idProjet);
    void UnassignProjetFromEquipe(long idEquipe, long idProjet);
+   void assignProjetsToEquipes(List<ProjetEquipeLinkDTO> links);
+   void UnassignProjetsFromEquipes(List<ProjetEquipeLinkDTO> links);
+   long exporterProjets(OutputStream out) throws IOException;
 }
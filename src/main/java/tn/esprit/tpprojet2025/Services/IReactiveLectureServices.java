@@ -0,0 +1,14 @@
+package tn.esprit.tpprojet2025.Services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tn.esprit.tpprojet2025.DTO.*;
+
+public interface IReactiveLectureServices {
+    Flux<ProjetSummaryDTO> afficherListeProjets();
+    Mono<ProjetDTO> afficherProjetSelonID(long idProjet);
+    Flux<EquipeSummaryDTO> afficherListeEquipes();
+    Mono<EquipeDTO> afficherEquipeSelonID(long idEquipe);
+    Flux<EntrepriseSummaryDTO> afficherListeEntreprises();
+    Mono<EntrepriseDTO> afficherEntrepriseSelonID(long idEntreprise);
+}
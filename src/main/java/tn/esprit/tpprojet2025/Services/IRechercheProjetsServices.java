@@ -0,0 +1,9 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.springframework.data.domain.Page;
+import tn.esprit.tpprojet2025.DTO.ProjetRechercheDTO;
+
+public interface IRechercheProjetsServices {
+    Page<ProjetRechercheDTO> rechercherTexte(String texte, int page, int size);
+    void reindexer();
+}
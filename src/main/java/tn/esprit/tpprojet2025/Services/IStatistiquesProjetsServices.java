@@ -0,0 +1,17 @@
+package tn.esprit.tpprojet2025.Services;
+
+import tn.esprit.tpprojet2025.DTO.StatistiquesProjetsDTO;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.Collection;
+
+public interface IStatistiquesProjetsServices {
+    StatistiquesProjetsDTO afficherStatistiques();
+    void projetAjoute(TypeProjet typeProjet, Long cout);
+    void projetSupprime(TypeProjet typeProjet, Long cout, Collection<Long> idsEquipes);
+    void projetAffecte(long idEquipe);
+    void projetDesaffecte(long idEquipe);
+    void coutModifie(Long ancienCout, Long nouveauCout);
+    void typeModifie(TypeProjet ancienType, TypeProjet nouveauType);
+    void reconstruire();
+}
@@ -0,0 +1,245 @@
+package tn.esprit.tpprojet2025.Services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.IngestionStatutDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ingestion asynchrone des créations de projets : les demandes, identifiées par une clé
+ * d'idempotence, sont mises dans une file bornée puis regroupées par un unique consommateur
+ * en une transaction par lot (inserts JDBC groupés). Chaque demande garde la sémantique de
+ * {@link ProjetServicesImpl#AjouterProjet} ou {@link ProjetServicesImpl#addProjetAndAssignProjetDetailToProjet} :
+ * si un lot échoue, ses demandes sont rejouées une par une pour n'en faire échouer qu'une.
+ */
+@Service
+public class IngestionProjetsServicesImpl implements IIngestionProjetsServices {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionProjetsServicesImpl.class);
+
+    private static final int CLE_LONGUEUR_MAX = 200;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private ProjetDetailRepository projetDetailRepository;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private IAnalyticsServices analyticsServices;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ingestion.projets.capacite:10000}")
+    private int capacite;
+
+    @Value("${ingestion.projets.taille-lot:500}")
+    private int tailleLot;
+
+    @Value("${ingestion.projets.retention:1h}")
+    private Duration retention;
+
+    private BlockingQueue<Demande> file;
+
+    private Cache<String, IngestionStatutDTO> statuts;
+
+    private ExecutorService consommateur;
+
+    private record Demande(String cle, Projet projet, Long idProjetDetail, boolean nouveauDetail) {
+    }
+
+    @PostConstruct
+    void demarrer() {
+        file = new ArrayBlockingQueue<>(capacite);
+        // Les statuts terminés restent consultables (et les clés rejouables) pendant la rétention
+        statuts = Caffeine.newBuilder().expireAfterWrite(retention).maximumSize(Math.max(100_000L, capacite * 10L)).build();
+        Gauge.builder("ingestion.projets.file", file, Collection::size)
+                .description("Demandes d'ingestion de projets en attente")
+                .register(meterRegistry);
+        consommateur = Executors.newSingleThreadExecutor(r -> new Thread(r, "ingestion-projets"));
+        consommateur.execute(this::consommer);
+    }
+
+    @PreDestroy
+    void arreter() throws InterruptedException {
+        // L'interruption fait vider la file avant la sortie du consommateur
+        consommateur.shutdownNow();
+        consommateur.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public IngestionStatutDTO soumettreProjet(String cle, Projet projet) {
+        return soumettre(cle, projet, null);
+    }
+
+    @Override
+    public IngestionStatutDTO soumettreProjetEtAffecter(String cle, Projet projet, long idProjetDetail) {
+        return soumettre(cle, projet, idProjetDetail);
+    }
+
+    @Override
+    public IngestionStatutDTO afficherStatut(String cle) {
+        IngestionStatutDTO statut = statuts.getIfPresent(cle);
+        if (statut == null) {
+            throw new NoSuchElementException("Aucune demande d'ingestion pour la clé " + cle);
+        }
+        return statut;
+    }
+
+    private IngestionStatutDTO soumettre(String cle, Projet projet, Long idProjetDetail) {
+        if (cle == null || cle.isBlank() || cle.length() > CLE_LONGUEUR_MAX) {
+            throw new RequeteInvalideException("Clé d'idempotence obligatoire (" + CLE_LONGUEUR_MAX + " caractères au plus)");
+        }
+        if (projet == null) {
+            throw new RequeteInvalideException("Projet obligatoire");
+        }
+        IngestionStatutDTO enAttente = IngestionStatutDTO.enAttente(cle);
+        IngestionStatutDTO existant = statuts.asMap().putIfAbsent(cle, enAttente);
+        if (existant != null) {
+            return existant;
+        }
+        // Création uniquement : un identifiant fourni ne doit pas transformer la demande en mise à jour
+        projet.setIdProjet(null);
+        boolean nouveauDetail = idProjetDetail == null && projet.getProjetDetail() != null
+                && projet.getProjetDetail().getIdProjetDetail() == null;
+        if (!file.offer(new Demande(cle, projet, idProjetDetail, nouveauDetail))) {
+            // Refusée : la même clé pourra être renvoyée plus tard
+            statuts.asMap().remove(cle, enAttente);
+            throw new RejectedExecutionException("File d'ingestion pleine (" + capacite + " demandes)");
+        }
+        return enAttente;
+    }
+
+    private void consommer() {
+        List<Demande> lot = new ArrayList<>(tailleLot);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                lot.add(file.take());
+                file.drainTo(lot, tailleLot - 1);
+                traiterLot(lot);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Lot d'ingestion de {} demandes abandonné", lot.size(), e);
+                lot.forEach(d -> statuts.put(d.cle(), IngestionStatutDTO.echec(d.cle(), String.valueOf(e.getMessage()))));
+            } finally {
+                lot.clear();
+            }
+        }
+        // Arrêt : les demandes déjà acceptées sont encore traitées
+        while (file.drainTo(lot, tailleLot) > 0) {
+            try {
+                traiterLot(lot);
+            } catch (RuntimeException e) {
+                log.error("Lot d'ingestion de {} demandes abandonné à l'arrêt", lot.size(), e);
+            }
+            lot.clear();
+        }
+    }
+
+    void traiterLot(List<Demande> lot) {
+        try {
+            List<Projet> saved = transactionTemplate.execute(status -> persister(lot));
+            for (int i = 0; i < lot.size(); i++) {
+                statuts.put(lot.get(i).cle(), IngestionStatutDTO.termine(lot.get(i).cle(), saved.get(i).getIdProjet()));
+            }
+        } catch (RuntimeException lotEnEchec) {
+            if (lot.size() == 1) {
+                Demande demande = lot.get(0);
+                statuts.put(demande.cle(), IngestionStatutDTO.echec(demande.cle(), String.valueOf(lotEnEchec.getMessage())));
+                return;
+            }
+            // Une demande fautive annule tout le lot : on rejoue chacune seule pour isoler l'erreur
+            for (Demande demande : lot) {
+                reinitialiser(demande);
+                traiterLot(List.of(demande));
+            }
+        } finally {
+            evictCaches();
+        }
+    }
+
+    private List<Projet> persister(List<Demande> lot) {
+        Set<Long> idsDetails = lot.stream().map(Demande::idProjetDetail).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, ProjetDetail> details = idsDetails.isEmpty() ? Map.of()
+                : projetDetailRepository.findAllById(idsDetails).stream()
+                .collect(Collectors.toMap(ProjetDetail::getIdProjetDetail, Function.identity()));
+        List<Projet> projets = new ArrayList<>(lot.size());
+        Set<TypeProjet> types = EnumSet.noneOf(TypeProjet.class);
+        for (Demande demande : lot) {
+            if (demande.idProjetDetail() != null) {
+                ProjetDetail detail = details.get(demande.idProjetDetail());
+                if (detail == null) {
+                    throw new NoSuchElementException("ProjetDetail introuvable : " + demande.idProjetDetail());
+                }
+                // Comme addProjetAndAssignProjetDetailToProjet : la synthèse du type que le détail quitte change aussi
+                if (detail.getProjet() != null && detail.getProjet().getTypeProjet() != null) {
+                    types.add(detail.getProjet().getTypeProjet());
+                }
+                demande.projet().setProjetDetail(detail);
+            }
+            projets.add(demande.projet());
+        }
+        List<Projet> saved = projetRepository.saveAll(projets);
+        projetRepository.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            Projet projet = saved.get(i);
+            ProjetDetail detail = projet.getProjetDetail();
+            statistiquesProjets.projetAjoute(projet.getTypeProjet(),
+                    lot.get(i).nouveauDetail() && detail != null ? detail.getCout() : null);
+            if (projet.getTypeProjet() != null && detail != null) {
+                types.add(projet.getTypeProjet());
+            }
+        }
+        types.forEach(analyticsServices::rafraichirResumeType);
+        return saved;
+    }
+
+    // Après un rollback, les identifiants tirés de la séquence ne correspondent à aucune ligne
+    private void reinitialiser(Demande demande) {
+        demande.projet().setIdProjet(null);
+        demande.projet().setVersion(0);
+        if (demande.idProjetDetail() != null) {
+            demande.projet().setProjetDetail(null);
+        } else if (demande.nouveauDetail()) {
+            demande.projet().getProjetDetail().setIdProjetDetail(null);
+            demande.projet().getProjetDetail().setVersion(0);
+        }
+    }
+
+    private void evictCaches() {
+        Optional.ofNullable(cacheManager.getCache(CacheNames.PROJETS)).ifPresent(org.springframework.cache.Cache::clear);
+        Optional.ofNullable(cacheManager.getCache(CacheNames.PROJET_DETAILS)).ifPresent(org.springframework.cache.Cache::clear);
+    }
+}
@@ -0,0 +1,19 @@
+package tn.esprit.tpprojet2025.Services;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Une page de résultats obtenue par pagination "keyset" (seek sur l'identifiant).
+ * nextPageToken est null lorsque la dernière page a été atteinte.
+ */
+public record KeysetPage<T>(List<T> items, String nextPageToken) {
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(items.stream().<R>map(mapper).toList(), nextPageToken);
+    }
+}
@@ -0,0 +1,65 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilitaires de pagination keyset : encodage/décodage du jeton opaque de continuation
+ * et bornage de la taille des pages.
+ */
+public final class PageTokens {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String PREFIX = "k:";
+
+    private PageTokens() {
+    }
+
+    public static int clampSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /** Requête limitée à size + 1 lignes afin de savoir s'il existe une page suivante sans COUNT. */
+    public static Pageable probe(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static String encode(long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /** Retourne le dernier identifiant vu, ou 0 pour la première page. */
+    public static long decode(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (raw.startsWith(PREFIX)) {
+                return Long.parseLong(raw.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new RequeteInvalideException("Jeton de pagination invalide", e);
+        }
+        throw new RequeteInvalideException("Jeton de pagination invalide");
+    }
+
+    public static <T> KeysetPage<T> toPage(List<T> rows, int size, Function<T, Long> idOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(List.copyOf(items), encode(idOf.apply(items.get(size - 1))));
+    }
+}
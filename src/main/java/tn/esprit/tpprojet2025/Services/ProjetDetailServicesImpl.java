@@ -2,42 +2,118 @@ package tn.esprit.tpprojet2025.Services;
 
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.esprit.tpprojet2025.DTO.ProjetDetailDTO;
 import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Mappers.ProjetDetailMapper;
 import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 @Service
+@Transactional
 @AllArgsConstructor
 public class ProjetDetailServicesImpl implements IProjetDetailServices{
 
     @Autowired
     private ProjetDetailRepository projetDetailRepository;
 
+    @Autowired
+    private BulkPersister bulkPersister;
+
+    @Autowired
+    private IAnalyticsServices analyticsServices;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private ProjetDetailMapper projetDetailMapper;
+
     @Override
     public ProjetDetail AjouterProjetDetail(ProjetDetail projetDetail) {
-        return projetDetailRepository.save(projetDetail);
+        ProjetDetail saved = projetDetailRepository.save(projetDetail);
+        statistiquesProjets.coutModifie(null, saved.getCout());
+        return saved;
+    }
+
+    @Override
+    public List<ProjetDetail> AjouterProjetDetails(List<ProjetDetail> projetDetails) {
+        List<ProjetDetail> saved = bulkPersister.saveAll(projetDetailRepository, projetDetails);
+        statistiquesProjets.coutModifie(null, saved.stream().map(ProjetDetail::getCout).filter(Objects::nonNull).mapToLong(Long::longValue).sum());
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjetDetail> afficherListeProjetDetail() {
         return projetDetailRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjetDetail> afficherPageProjetDetails(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<ProjetDetail> rows = projetDetailRepository.findByIdProjetDetailGreaterThanOrderByIdProjetDetailAsc(
+                PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, ProjetDetail::getIdProjetDetail);
+    }
+
 
     @Override
+    @Transactional(readOnly = true)
     public ProjetDetail afficherProjetDetailSelonID(long idProjetDetail) {
         return projetDetailRepository.findById(idProjetDetail).get();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ProjetDetailDTO> afficherListeProjetDetailDTO() {
+        return projetDetailRepository.findAllWithProjet().stream().map(projetDetailMapper::toDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJET_DETAILS)
+    public ProjetDetailDTO afficherProjetDetailDTOSelonID(long idProjetDetail) {
+        return projetDetailMapper.toDTO(projetDetailRepository.findWithProjetByIdProjetDetail(idProjetDetail).get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjetDetailDTO> afficherPageProjetDetailsDTO(String pageToken, int size) {
+        return afficherPageProjetDetails(pageToken, size).map(projetDetailMapper::toDTO);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, key = "#projetDetail.idProjetDetail", condition = "#projetDetail.idProjetDetail != null"),
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true)
+    })
     public ProjetDetail modifierProjetDetail(ProjetDetail projetDetail) {
-        return projetDetailRepository.save(projetDetail);
+        Long ancienCout = projetDetail.getIdProjetDetail() == null ? null
+                : projetDetailRepository.findCoutByIdProjetDetail(projetDetail.getIdProjetDetail()).orElse(null);
+        ProjetDetail saved = projetDetailRepository.save(projetDetail);
+        statistiquesProjets.coutModifie(ancienCout, saved.getCout());
+        analyticsServices.rafraichirResumeProjetDetail(saved.getIdProjetDetail());
+        return saved;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, key = "#idProjetDetail"),
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true)
+    })
     public void supprimerProjetDetail(long idProjetDetail) {
-          projetDetailRepository.deleteById(idProjetDetail);
+        Optional<ProjetDetail> projetDetail = projetDetailRepository.findWithProjetByIdProjetDetail(idProjetDetail);
+        projetDetailRepository.deleteById(idProjetDetail);
+        statistiquesProjets.coutModifie(projetDetail.map(ProjetDetail::getCout).orElse(null), null);
+        projetDetail.map(ProjetDetail::getProjet).ifPresent(p -> analyticsServices.rafraichirResumeType(p.getTypeProjet()));
     }
 
 
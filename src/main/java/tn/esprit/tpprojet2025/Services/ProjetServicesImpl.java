@@ -1,18 +1,49 @@
 package tn.esprit.tpprojet2025.Services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.esprit.tpprojet2025.Config.RetryOnConflict;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetEquipeLinkDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetFiltreDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetSummaryDTO;
 import tn.esprit.tpprojet2025.Entities.Equipe;
 import tn.esprit.tpprojet2025.Entities.Projet;
 import tn.esprit.tpprojet2025.Entities.ProjetDetail;
-import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Mappers.ProjetMapper;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapper;
 import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetEquipeLinkRepository;
 import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetSpecifications;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
+@Transactional
 @AllArgsConstructor
 public class ProjetServicesImpl implements IProjetServices{
 
@@ -20,76 +51,358 @@ public class ProjetServicesImpl implements IProjetServices{
     @Autowired
     private ProjetRepository projetRepository;
 
+    @Autowired
+    private BulkPersister bulkPersister;
+
     @Autowired
     private ProjetDetailRepository projetDetailRepository;
 
     @Autowired
-    private EquipeRepository equipeRepository;
+    private ProjetEquipeLinkRepository projetEquipeLinkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAnalyticsServices analyticsServices;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private IGrapheEquipesServices grapheEquipes;
+
+    @Autowired
+    private VersionsTables versionsTables;
+
+    @Autowired
+    private ProjetMapper projetMapper;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
 
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
     public Projet AjouterProjet(Projet projet) {
-        return  projetRepository.save(projet);
+        // Un détail sans identifiant est créé en cascade : son coût s'ajoute au total
+        boolean nouveauDetail = projet != null && projet.getProjetDetail() != null
+                && projet.getProjetDetail().getIdProjetDetail() == null;
+        Projet saved = projetRepository.save(projet);
+        statistiquesProjets.projetAjoute(saved.getTypeProjet(), nouveauDetail ? cout(saved.getProjetDetail()) : null);
+        if (saved.getProjetDetail() != null) {
+            rafraichirResumes(saved.getTypeProjet());
+        }
+        return saved;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    public List<Projet> AjouterProjets(List<Projet> projets) {
+        // Comme AjouterProjet : seuls les détails créés en cascade ajoutent leur coût
+        List<Boolean> nouveauxDetails = projets.stream()
+                .map(p -> p.getProjetDetail() != null && p.getProjetDetail().getIdProjetDetail() == null)
+                .toList();
+        List<Projet> saved = bulkPersister.saveAll(projetRepository, projets);
+        for (int i = 0; i < saved.size(); i++) {
+            Projet projet = saved.get(i);
+            statistiquesProjets.projetAjoute(projet.getTypeProjet(), nouveauxDetails.get(i) ? cout(projet.getProjetDetail()) : null);
+        }
+        rafraichirResumes(saved.stream().filter(p -> p.getProjetDetail() != null).map(Projet::getTypeProjet)
+                .toArray(TypeProjet[]::new));
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Projet> afficherListeProjets() {
         return projetRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Projet> afficherPageProjets(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<Projet> rows = projetRepository.findByIdProjetGreaterThanOrderByIdProjetAsc(
+                PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, Projet::getIdProjet);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Projet afficherProjetSelonID(long idProjet) {
         return projetRepository.findById(idProjet).get();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ProjetDTO> afficherListeProjetsDTO() {
+        return projetRepository.findAllWithDetailAndEquipes().stream().map(projetMapper::toDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJETS)
+    public ProjetDTO afficherProjetDTOSelonID(long idProjet) {
+        return projetMapper.toDTO(projetRepository.findWithDetailAndEquipesByIdProjet(idProjet).get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjetDTO> afficherPageProjetsDTO(String pageToken, int size) {
+        return afficherPageProjets(pageToken, size).map(projetMapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjetSummaryDTO> afficherListeProjetsResume() {
+        return projetRepository.findResumesAfter(0L, Pageable.unpaged());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjetSummaryDTO> afficherPageProjetsResume(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<ProjetSummaryDTO> rows = projetRepository.findResumesAfter(PageTokens.decode(pageToken), PageTokens.probe(pageSize));
+        return PageTokens.toPage(rows, pageSize, ProjetSummaryDTO::idProjet);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjetSummaryDTO afficherProjetResumeSelonID(long idProjet) {
+        return resumeMapper.toResume(projetRepository.findById(idProjet).get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjetDTO> rechercherProjets(ProjetFiltreDTO filtre, String tri, String direction, int page, int size) {
+        if (filtre.coutMin() != null && filtre.coutMax() != null && filtre.coutMin() > filtre.coutMax()) {
+            throw new RequeteInvalideException("coutMin doit être inférieur ou égal à coutMax");
+        }
+        if (filtre.dateDebutMin() != null && filtre.dateDebutMax() != null
+                && filtre.dateDebutMin().isAfter(filtre.dateDebutMax())) {
+            throw new RequeteInvalideException("dateDebutMin doit précéder dateDebutMax");
+        }
+        Specification<Projet> specification;
+        try {
+            specification = ProjetSpecifications.rechercher(filtre, tri, Sort.Direction.fromString(direction));
+        } catch (IllegalArgumentException e) {
+            // Tri ou sens inconnus : erreur du client
+            throw new RequeteInvalideException(e.getMessage(), e);
+        }
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), PageTokens.clampSize(size));
+        return projetRepository.findAll(specification, pageRequest)
+                .map(projetMapper::toDTO);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, key = "#projet.idProjet", condition = "#projet.idProjet != null"),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    })
     public Projet modifierProjet(Projet projet) {
-        return projetRepository.save(projet);
+        // État avant la fusion, qui recopie la modification sur l'entité chargée ici
+        Optional<Projet> ancien = projet.getIdProjet() == null ? Optional.empty() : projetRepository.findById(projet.getIdProjet());
+        TypeProjet ancienType = ancien.map(Projet::getTypeProjet).orElse(null);
+        Long idAncienDetail = ancien.map(Projet::getProjetDetail).map(ProjetDetail::getIdProjetDetail).orElse(null);
+        Long ancienCout = ancien.map(Projet::getProjetDetail).map(ProjetDetail::getCout).orElse(null);
+        Projet saved = projetRepository.save(projet);
+        Long idNouveauDetail = saved.getProjetDetail() == null ? null : saved.getProjetDetail().getIdProjetDetail();
+        if (ancien.isPresent() && Objects.equals(idAncienDetail, idNouveauDetail)) {
+            statistiquesProjets.typeModifie(ancienType, saved.getTypeProjet());
+            statistiquesProjets.coutModifie(ancienCout, cout(saved.getProjetDetail()));
+        } else {
+            // Projet créé par la fusion ou détail remplacé (l'ancien reste en base) : recalcul complet
+            statistiquesProjets.reconstruire();
+        }
+        rafraichirResumes(ancienType, saved.getTypeProjet());
+        return saved;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, key = "#idProjet"),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    })
     public void supprimerProjet(long idProjet) {
-         projetRepository.deleteById(idProjet);
+        Optional<Projet> projet = projetRepository.findById(idProjet);
+        List<Long> idsEquipes = projet.map(p -> p.getEquipes().stream().map(Equipe::getIdEquipe).toList()).orElse(List.of());
+        projetRepository.deleteById(idProjet);
+        projet.ifPresent(p -> statistiquesProjets.projetSupprime(p.getTypeProjet(), cout(p.getProjetDetail()), idsEquipes));
+        projet.ifPresent(p -> grapheEquipes.projetSupprime(idProjet));
+        projet.ifPresent(p -> rafraichirResumes(p.getTypeProjet()));
     }
 
     @Override
+    @RetryOnConflict
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    })
     public void assignProjetDetailToProjet(long idProjet, long idProjetDetail) {
         Projet projet = projetRepository.findById(idProjet).get();
         ProjetDetail projetDetail = projetDetailRepository.findById(idProjetDetail).get();
+        // Le détail peut quitter un projet d'un autre type : les deux lignes de synthèse changent
+        TypeProjet ancienType = projetDetail.getProjet() == null ? null : projetDetail.getProjet().getTypeProjet();
         // Affecter ProjetDetail (Fils) au Projet (Père)
         projet.setProjetDetail(projetDetail);
         projetRepository.save(projet);
+        rafraichirResumes(ancienType, projet.getTypeProjet());
     }
 
     @Override
+    @RetryOnConflict
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, key = "#idProjet"),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, key = "#idEquipe")
+    })
     public void assignProjetToEquipe(long idProjet, long idEquipe) {
-        Projet projet = projetRepository.findById(idProjet).get();
-        Equipe equipe = equipeRepository.findById(idEquipe).get();
-        //Affecter Projet (Fils) à Equipe (Père)
-        equipe.getProjets().add(projet);
-        equipeRepository.save(equipe);
+        if (!projetRepository.existsById(idProjet)) {
+            throw new NoSuchElementException("Projet introuvable : " + idProjet);
+        }
+        lockEquipes(List.of(idEquipe));
+        //Affecter Projet (Fils) à Equipe (Père) : une seule ligne de la table de jointure, sans charger la collection
+        if (projetEquipeLinkRepository.insertLink(idEquipe, idProjet)) {
+            statistiquesProjets.projetAffecte(idEquipe);
+            grapheEquipes.lienAjoute(idEquipe, idProjet);
+        }
+        evictEquipesCache(List.of(idEquipe));
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true)
+    })
+    public void assignProjetsToEquipes(List<ProjetEquipeLinkDTO> links) {
+        List<Long> idsEquipes = links.stream().map(ProjetEquipeLinkDTO::idEquipe).distinct().toList();
+        lockEquipes(idsEquipes);
+        Optional<List<ProjetEquipeLinkDTO>> inseres = projetEquipeLinkRepository.insertLinks(new LinkedHashSet<>(links));
+        evictEquipesCache(idsEquipes);
+        inseres.ifPresentOrElse(liens -> liens.forEach(link -> statistiquesProjets.projetAffecte(link.idEquipe())),
+                statistiquesProjets::reconstruire);
+        links.forEach(link -> grapheEquipes.lienAjoute(link.idEquipe(), link.idProjet()));
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, allEntries = true)
+    })
+    public void UnassignProjetsFromEquipes(List<ProjetEquipeLinkDTO> links) {
+        List<Long> idsEquipes = links.stream().map(ProjetEquipeLinkDTO::idEquipe).distinct().toList();
+        lockEquipes(idsEquipes);
+        Optional<List<ProjetEquipeLinkDTO>> supprimes = projetEquipeLinkRepository.deleteLinks(new LinkedHashSet<>(links));
+        evictEquipesCache(idsEquipes);
+        supprimes.ifPresentOrElse(liens -> liens.forEach(link -> statistiquesProjets.projetDesaffecte(link.idEquipe())),
+                statistiquesProjets::reconstruire);
+        links.forEach(link -> grapheEquipes.lienRetire(link.idEquipe(), link.idProjet()));
+    }
+
+    // Version des équipes incrémentée avant toute écriture de lien : le verrou de ligne est pris en premier,
+    // toujours dans le même ordre, et un merge concurrent de l'équipe avec une collection périmée échoue
+    private void lockEquipes(List<Long> idsEquipes) {
+        if (projetEquipeLinkRepository.incrementEquipeVersions(idsEquipes) < idsEquipes.size()) {
+            throw new NoSuchElementException("Equipe introuvable parmi : " + idsEquipes);
+        }
+    }
+
+    // Les liens et versions écrits en JDBC contournent Hibernate : on invalide les équipes et collections en cache
+    // et on signale la modification de la table aux GET conditionnels
+    private void evictEquipesCache(List<Long> idsEquipes) {
+        versionsTables.tablesModifiees(VersionsTables.Table.EQUIPE);
+        org.hibernate.Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        idsEquipes.forEach(idEquipe -> {
+            cache.evictEntityData(Equipe.class, idEquipe);
+            cache.evictCollectionData(Equipe.PROJETS_ROLE, idEquipe);
+        });
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    })
     public Projet addProjetAndAssignProjetDetailToProjet(long idProjetDetail, Projet projet) {
         ProjetDetail projetDetail = projetDetailRepository.findById(idProjetDetail).get();
+        TypeProjet ancienType = projetDetail.getProjet() == null ? null : projetDetail.getProjet().getTypeProjet();
         projet.setProjetDetail(projetDetail);
-        return projetRepository.save(projet);
+        Projet saved = projetRepository.save(projet);
+        statistiquesProjets.projetAjoute(saved.getTypeProjet(), null);
+        rafraichirResumes(ancienType, saved.getTypeProjet());
+        return saved;
     }
 
     @Override
+    @RetryOnConflict
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, key = "#idProjet"),
+            @CacheEvict(cacheNames = CacheNames.PROJET_DETAILS, allEntries = true)
+    })
     public void UnassignProjetDetailFromProjet(long idProjet) {
         Projet projet = projetRepository.findById(idProjet).get();
         projet.setProjetDetail(null);
         projetRepository.save(projet);
+        rafraichirResumes(projet.getTypeProjet());
     }
 
     @Override
+    @RetryOnConflict
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJETS, key = "#idProjet"),
+            @CacheEvict(cacheNames = CacheNames.EQUIPES, key = "#idEquipe")
+    })
     public void UnassignProjetFromEquipe(long idEquipe, long idProjet) {
-      Equipe equipe = equipeRepository.findById(idEquipe).get();
-      Projet projet = projetRepository.findById(idProjet).get();
-      equipe.getProjets().remove(projet);
-      equipeRepository.save(equipe);
+      lockEquipes(List.of(idEquipe));
+      if (projetEquipeLinkRepository.deleteLink(idEquipe, idProjet)) {
+          statistiquesProjets.projetDesaffecte(idEquipe);
+          grapheEquipes.lienRetire(idEquipe, idProjet);
+      }
+      evictEquipesCache(List.of(idEquipe));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exporterProjets(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Projet> projets = projetRepository.streamAllWithDetailAndEquipes()) {
+            Iterator<Projet> it = projets.iterator();
+            while (it.hasNext()) {
+                Projet projet = it.next();
+                out.write(objectMapper.writeValueAsBytes(projetMapper.toDTO(projet)));
+                out.write('\n');
+                // Détacher au fil de l'eau pour que le contexte de persistance ne grossisse pas
+                projet.getEquipes().forEach(entityManager::detach);
+                entityManager.detach(projet);
+                if (++count == 1 || count % EXPORT_FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return count;
     }
 
+    // Lignes de la table de synthèse (une par type) dont les projets ou les détails ont changé
+    private void rafraichirResumes(TypeProjet... types) {
+        Arrays.stream(types).filter(Objects::nonNull).distinct().forEach(analyticsServices::rafraichirResumeType);
+    }
+
+    private static Long cout(ProjetDetail projetDetail) {
+        return projetDetail == null ? null : projetDetail.getCout();
+    }
 }
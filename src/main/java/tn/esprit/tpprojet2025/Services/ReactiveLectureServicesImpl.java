@@ -0,0 +1,52 @@
+package tn.esprit.tpprojet2025.Services;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tn.esprit.tpprojet2025.DTO.*;
+import tn.esprit.tpprojet2025.Repositories.ReactiveReadRepository;
+
+import java.util.NoSuchElementException;
+
+@Service
+@AllArgsConstructor
+public class ReactiveLectureServicesImpl implements IReactiveLectureServices {
+
+    @Autowired
+    private ReactiveReadRepository reactiveReadRepository;
+
+    @Override
+    public Flux<ProjetSummaryDTO> afficherListeProjets() {
+        return reactiveReadRepository.findAllProjets();
+    }
+
+    @Override
+    public Mono<ProjetDTO> afficherProjetSelonID(long idProjet) {
+        return reactiveReadRepository.findProjetById(idProjet)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Projet introuvable : " + idProjet)));
+    }
+
+    @Override
+    public Flux<EquipeSummaryDTO> afficherListeEquipes() {
+        return reactiveReadRepository.findAllEquipes();
+    }
+
+    @Override
+    public Mono<EquipeDTO> afficherEquipeSelonID(long idEquipe) {
+        return reactiveReadRepository.findEquipeById(idEquipe)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Equipe introuvable : " + idEquipe)));
+    }
+
+    @Override
+    public Flux<EntrepriseSummaryDTO> afficherListeEntreprises() {
+        return reactiveReadRepository.findAllEntreprises();
+    }
+
+    @Override
+    public Mono<EntrepriseDTO> afficherEntrepriseSelonID(long idEntreprise) {
+        return reactiveReadRepository.findEntrepriseById(idEntreprise)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Entreprise introuvable : " + idEntreprise)));
+    }
+}
@@ -0,0 +1,113 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tn.esprit.tpprojet2025.DTO.ProjetRechercheDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+/**
+ * Recherche plein texte sur l'index Lucene des projets (nom, description et technologie du détail).
+ * L'index suit les écritures ORM de ProjetServicesImpl et ProjetDetailServicesImpl (indexation
+ * automatique au commit) ; le mass indexer ne sert qu'à la reconstruction complète.
+ */
+@Service
+public class RechercheProjetsServicesImpl implements IRechercheProjetsServices {
+
+    private static final Logger log = LoggerFactory.getLogger(RechercheProjetsServicesImpl.class);
+
+    private static final String NOM = "nomProjet";
+    private static final String TECHNOLOGIE = "projetDetail.technologie";
+    private static final String DESCRIPTION = "projetDetail.description";
+    private static final String PREFIXE = "_prefixe";
+    private static final int DISTANCE_FUZZY = 1;
+    private static final int TAILLE_LOT_REINDEXATION = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjetRechercheDTO> rechercherTexte(String texte, int page, int size) {
+        if (texte == null || texte.isBlank()) {
+            throw new RequeteInvalideException("Le texte recherché est obligatoire");
+        }
+        int numero = Math.max(page, 0);
+        int pageSize = PageTokens.clampSize(size);
+        // Mot exact > préfixe > mot approché ; le nom pèse plus que la technologie, puis la description
+        SearchResult<ProjetRechercheDTO> resultat = Search.session(entityManager).search(Projet.class)
+                .select(f -> f.composite().from(f.entity(), f.score()).as(RechercheProjetsServicesImpl::toResultat))
+                .where(f -> f.bool()
+                        .should(f.match().field(NOM).boost(3f).field(TECHNOLOGIE).boost(2f).field(DESCRIPTION)
+                                .matching(texte))
+                        .should(f.match().field(NOM + PREFIXE).boost(3f).field(TECHNOLOGIE + PREFIXE).boost(2f)
+                                .field(DESCRIPTION + PREFIXE)
+                                .matching(texte).boost(0.5f))
+                        .should(f.match().field(NOM).boost(3f).field(TECHNOLOGIE).boost(2f).field(DESCRIPTION)
+                                .matching(texte).fuzzy(DISTANCE_FUZZY).boost(0.3f)))
+                .fetch(numero * pageSize, pageSize);
+        return new PageImpl<>(resultat.hits(), PageRequest.of(numero, pageSize), resultat.total().hitCount());
+    }
+
+    @Override
+    public void reindexer() {
+        try {
+            massIndexer().startAndWait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Réindexation interrompue", e);
+        }
+    }
+
+    /** Premier démarrage (ou index supprimé) : reconstruction en arrière-plan si la base contient des projets. */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexerSiVide() {
+        long documents = Search.session(entityManager).search(Projet.class)
+                .where(f -> f.matchAll())
+                .fetchTotalHitCount();
+        if (documents > 0 || projetRepository.count() == 0) {
+            return;
+        }
+        log.info("Index de recherche vide : reconstruction à partir de la base");
+        massIndexer().start().whenComplete((ok, erreur) -> {
+            if (erreur != null) {
+                log.error("Échec de la reconstruction de l'index de recherche", erreur);
+            } else {
+                log.info("Index de recherche reconstruit");
+            }
+        });
+    }
+
+    private MassIndexer massIndexer() {
+        return Search.mapping(entityManagerFactory).scope(Projet.class).massIndexer()
+                .batchSizeToLoadObjects(TAILLE_LOT_REINDEXATION)
+                .threadsToLoadObjects(2);
+    }
+
+    private static ProjetRechercheDTO toResultat(Projet projet, Float score) {
+        ProjetDetail detail = projet.getProjetDetail();
+        return new ProjetRechercheDTO(projet.getIdProjet(), projet.getNomProjet(), projet.getTypeProjet(),
+                detail == null ? null : detail.getTechnologie(), detail == null ? null : detail.getDescription(), score);
+    }
+}
@@ -0,0 +1,16 @@
+package tn.esprit.tpprojet2025.Services;
+
+/**
+ * Paramètre de requête refusé (jeton de pagination, filtre, tri, clé d'idempotence...). Seule cette
+ * exception est traduite en 400 : une {@link IllegalArgumentException} levée ailleurs reste une erreur serveur.
+ */
+public class RequeteInvalideException extends IllegalArgumentException {
+
+    public RequeteInvalideException(String message) {
+        super(message);
+    }
+
+    public RequeteInvalideException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
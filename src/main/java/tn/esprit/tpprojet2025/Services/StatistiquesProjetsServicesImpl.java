@@ -0,0 +1,270 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.StatistiquesProjetsDTO;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Statistiques des projets tenues en mémoire : construites une fois depuis la base au démarrage,
+ * puis mises à jour par les services d'écriture. La lecture ne touche jamais la base et renvoie
+ * le même instantané tant qu'aucun compteur n'a changé.
+ */
+@Service
+public class StatistiquesProjetsServicesImpl implements IStatistiquesProjetsServices {
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private ProjetDetailRepository projetDetailRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile Compteurs compteurs = new Compteurs();
+
+    private final AtomicLong version = new AtomicLong();
+
+    // Lecture : application des deltas (concurrente) ; écriture : reconstruction depuis la base
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    private volatile Instantane instantane;
+
+    @Override
+    public StatistiquesProjetsDTO afficherStatistiques() {
+        long versionCourante = version.get();
+        Instantane dernier = instantane;
+        if (dernier != null && dernier.version() == versionCourante) {
+            return dernier.statistiques();
+        }
+        StatistiquesProjetsDTO statistiques = compteurs.toDTO();
+        instantane = new Instantane(versionCourante, statistiques);
+        return statistiques;
+    }
+
+    @Override
+    public void projetAjoute(TypeProjet typeProjet, Long cout) {
+        apresCommit(c -> {
+            c.parType(typeProjet).increment();
+            c.coutTotal.add(valeur(cout));
+        });
+    }
+
+    @Override
+    public void projetSupprime(TypeProjet typeProjet, Long cout, Collection<Long> idsEquipes) {
+        List<Long> equipes = List.copyOf(idsEquipes);
+        apresCommit(c -> {
+            c.parType(typeProjet).decrement();
+            c.coutTotal.add(-valeur(cout));
+            equipes.forEach(idEquipe -> c.parEquipe(idEquipe).decrement());
+        });
+    }
+
+    @Override
+    public void projetAffecte(long idEquipe) {
+        apresCommit(c -> c.parEquipe(idEquipe).increment());
+    }
+
+    @Override
+    public void projetDesaffecte(long idEquipe) {
+        apresCommit(c -> c.parEquipe(idEquipe).decrement());
+    }
+
+    @Override
+    public void coutModifie(Long ancienCout, Long nouveauCout) {
+        long delta = valeur(nouveauCout) - valeur(ancienCout);
+        if (delta != 0) {
+            apresCommit(c -> c.coutTotal.add(delta));
+        }
+    }
+
+    @Override
+    public void typeModifie(TypeProjet ancienType, TypeProjet nouveauType) {
+        if (ancienType != nouveauType) {
+            apresCommit(c -> {
+                c.parType(ancienType).decrement();
+                c.parType(nouveauType).increment();
+            });
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruire() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reconstruireMaintenant();
+            return;
+        }
+        // Après la libération du verrou de lecture pris par les deltas de la même transaction (ordre plus faible)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reconstruireMaintenant();
+                }
+            }
+        });
+    }
+
+    // Verrou d'écriture tenu des requêtes jusqu'au remplacement des compteurs : aucune transaction portant des
+    // deltas ne commite entre-temps, chaque delta est donc vu soit par les requêtes, soit par les nouveaux compteurs.
+    // Transaction ouverte avant le verrou : hors réplique, sa connexion est déjà prise et ne s'attend pas derrière des écritures bloquées.
+    private void reconstruireMaintenant() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> {
+            verrou.writeLock().lock();
+            try {
+                Compteurs nouveaux = new Compteurs();
+                for (Object[] ligne : projetRepository.countGroupByTypeProjet()) {
+                    nouveaux.parType((TypeProjet) ligne[0]).add((Long) ligne[1]);
+                }
+                for (Object[] ligne : equipeRepository.countProjetsGroupByEquipe()) {
+                    nouveaux.parEquipe((Long) ligne[0]).add((Long) ligne[1]);
+                }
+                nouveaux.coutTotal.add(projetDetailRepository.sumCout());
+                compteurs = nouveaux;
+                version.incrementAndGet();
+            } finally {
+                verrou.writeLock().unlock();
+            }
+        });
+    }
+
+    // Dans une transaction, la mise à jour n'est appliquée qu'après le commit : un rollback ne fausse pas les compteurs.
+    // Les deltas d'une transaction sont regroupés dans un seul journal, appliqué d'un bloc.
+    private void apresCommit(Consumer<Compteurs> miseAJour) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            verrou.readLock().lock();
+            try {
+                miseAJour.accept(compteurs);
+                version.incrementAndGet();
+            } finally {
+                verrou.readLock().unlock();
+            }
+            return;
+        }
+        Journal journal = (Journal) TransactionSynchronizationManager.getResource(this);
+        if (journal == null) {
+            journal = new Journal();
+            TransactionSynchronizationManager.bindResource(this, journal);
+            TransactionSynchronizationManager.registerSynchronization(journal);
+        }
+        journal.misesAJour.add(miseAJour);
+    }
+
+    private static long valeur(Long cout) {
+        return cout == null ? 0L : cout;
+    }
+
+    private record Instantane(long version, StatistiquesProjetsDTO statistiques) {
+    }
+
+    /**
+     * Deltas d'une transaction. Le verrou de lecture est pris avant le commit en base et rendu après
+     * l'application des deltas : une reconstruction ne peut pas lire la base dans cet intervalle.
+     */
+    private final class Journal implements TransactionSynchronization {
+        private final List<Consumer<Compteurs>> misesAJour = new ArrayList<>();
+        private boolean verrouille;
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(StatistiquesProjetsServicesImpl.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(StatistiquesProjetsServicesImpl.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            verrou.readLock().lock();
+            verrouille = true;
+        }
+
+        @Override
+        public void afterCommit() {
+            misesAJour.forEach(miseAJour -> miseAJour.accept(compteurs));
+            version.incrementAndGet();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StatistiquesProjetsServicesImpl.this);
+            if (verrouille) {
+                verrouille = false;
+                verrou.readLock().unlock();
+            }
+        }
+    }
+
+    /** Compteurs à écriture concurrente ; la structure des types est figée à la construction. */
+    private static final class Compteurs {
+        private final EnumMap<TypeProjet, LongAdder> parType = new EnumMap<>(TypeProjet.class);
+        private final LongAdder sansType = new LongAdder();
+        private final ConcurrentHashMap<Long, LongAdder> parEquipe = new ConcurrentHashMap<>();
+        private final LongAdder coutTotal = new LongAdder();
+
+        private Compteurs() {
+            for (TypeProjet type : TypeProjet.values()) {
+                parType.put(type, new LongAdder());
+            }
+        }
+
+        private LongAdder parType(TypeProjet type) {
+            return type == null ? sansType : parType.get(type);
+        }
+
+        private LongAdder parEquipe(Long idEquipe) {
+            return parEquipe.computeIfAbsent(idEquipe, id -> new LongAdder());
+        }
+
+        private StatistiquesProjetsDTO toDTO() {
+            long total = sansType.sum();
+            EnumMap<TypeProjet, Long> types = new EnumMap<>(TypeProjet.class);
+            for (Map.Entry<TypeProjet, LongAdder> entree : parType.entrySet()) {
+                long nombre = entree.getValue().sum();
+                types.put(entree.getKey(), nombre);
+                total += nombre;
+            }
+            TreeMap<Long, Long> equipes = new TreeMap<>();
+            parEquipe.forEach((idEquipe, nombre) -> {
+                long valeur = nombre.sum();
+                if (valeur > 0) {
+                    equipes.put(idEquipe, valeur);
+                }
+            });
+            return new StatistiquesProjetsDTO(total, coutTotal.sum(),
+                    Collections.unmodifiableMap(types), Collections.unmodifiableMap(equipes));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Compteurs de modification par table, en mémoire, servant de validateur aux GET conditionnels des listes
+ * et des pages : lire une version ne coûte aucune requête.
+ * <p>
+ * Les écritures ORM sont captées par des écouteurs Hibernate (entités et collections, y compris les
+ * cascades) ; les écritures JDBC directes appellent {@link #tablesModifiees}. Dans une transaction, les
+ * compteurs ne sont incrémentés qu'après le commit : une lecture concurrente ne peut pas associer la
+ * nouvelle version à l'ancien état. Comme les statistiques et le graphe des équipes, ils sont propres à
+ * l'instance ; le préfixe tiré au démarrage évite qu'un redémarrage reproduise une version déjà servie.
+ */
+@Component
+public class VersionsTables implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+        PostCollectionRecreateEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    public enum Table {
+        PROJET(Projet.class),
+        PROJET_DETAIL(ProjetDetail.class),
+        EQUIPE(Equipe.class),
+        ENTREPRISE(Entreprise.class);
+
+        private final Class<?> entite;
+
+        Table(Class<?> entite) {
+            this.entite = entite;
+        }
+    }
+
+    private static final Map<String, Table> TABLES_PAR_ENTITE = Arrays.stream(Table.values())
+            .collect(Collectors.toUnmodifiableMap(t -> t.entite.getName(), t -> t));
+
+    private final String demarrage = Long.toHexString(new Random().nextLong());
+
+    private final AtomicLongArray compteurs = new AtomicLongArray(Table.values().length);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void enregistrer() {
+        EventListenerRegistry registre = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_INSERT, this);
+        registre.appendListeners(EventType.POST_UPDATE, this);
+        registre.appendListeners(EventType.POST_DELETE, this);
+        registre.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registre.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registre.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    /** Version courante de l'ensemble de tables, identique tant qu'aucune d'elles n'a été modifiée. */
+    public String version(EnumSet<Table> tables) {
+        return tables.stream().map(t -> String.valueOf(compteurs.get(t.ordinal())))
+                .collect(Collectors.joining(".", demarrage + ":", ""));
+    }
+
+    public void tablesModifiees(Table... tables) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Arrays.stream(tables).forEach(this::incrementer);
+            return;
+        }
+        Journal journal = (Journal) TransactionSynchronizationManager.getResource(this);
+        if (journal == null) {
+            journal = new Journal();
+            TransactionSynchronizationManager.bindResource(this, journal);
+            TransactionSynchronizationManager.registerSynchronization(journal);
+        }
+        journal.tables.addAll(Arrays.asList(tables));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        entiteModifiee(event.getPersister().getEntityName());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        entiteModifiee(event.getPersister().getEntityName());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        entiteModifiee(event.getPersister().getEntityName());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        entiteModifiee(event.getAffectedOwnerEntityName());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        entiteModifiee(event.getAffectedOwnerEntityName());
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        entiteModifiee(event.getAffectedOwnerEntityName());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void entiteModifiee(String entite) {
+        Table table = TABLES_PAR_ENTITE.get(entite);
+        if (table != null) {
+            tablesModifiees(table);
+        }
+    }
+
+    private void incrementer(Table table) {
+        compteurs.incrementAndGet(table.ordinal());
+    }
+
+    // Tables modifiées par une transaction, incrémentées une fois au commit
+    private final class Journal implements TransactionSynchronization {
+        private final EnumSet<Table> tables = EnumSet.noneOf(Table.class);
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(VersionsTables.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(VersionsTables.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            tables.forEach(VersionsTables.this::incrementer);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(VersionsTables.this);
+        }
+    }
+}
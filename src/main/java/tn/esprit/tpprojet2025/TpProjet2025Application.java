@@ -2,8 +2,12 @@ package tn.esprit.tpprojet2025;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.retry.annotation.EnableRetry;
 
 @SpringBootApplication
+@EnableCaching
+@EnableRetry
 public class TpProjet2025Application {
 
     public static void main(String[] args) {
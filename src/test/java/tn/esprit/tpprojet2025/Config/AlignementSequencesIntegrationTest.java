@@ -0,0 +1,50 @@
+package tn.esprit.tpprojet2025.Config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tn.esprit.tpprojet2025.Entities.IdGeneration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 en mode MySQL avec le dialecte MySQL : Hibernate émule les séquences par des tables
+ * {@code *_seq}, comme en production.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:alignementSequences;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+})
+@DisplayName("Alignment of table-emulated sequences on existing ids")
+class AlignementSequencesIntegrationTest {
+
+    @Autowired
+    private AlignementSequences alignementSequences;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("A sequence behind the existing ids is moved past them, never backwards")
+    void testAlignement() {
+        // Given : un projet écrit du temps des identifiants IDENTITY, table de séquence neuve
+        jdbcTemplate.update("insert into projet (id_projet, nom_projet, version) values (1000, 'Ancien', 0)");
+        jdbcTemplate.update("update projet_seq set next_val = 1");
+
+        // When
+        alignementSequences.aligner();
+
+        // Then : premier identifiant réservé 1001
+        assertThat(nextVal()).isEqualTo(1000L + IdGeneration.ALLOCATION_SIZE);
+        jdbcTemplate.update("update projet_seq set next_val = 5000");
+        alignementSequences.aligner();
+        assertThat(nextVal()).isEqualTo(5000L);
+    }
+
+    private Long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from projet_seq", Long.class);
+    }
+}
@@ -0,0 +1,131 @@
+package tn.esprit.tpprojet2025.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for DatabaseConcurrencyLimiter")
+class DatabaseConcurrencyLimiterTest {
+
+    private static final List<String> ROUTES_SANS_BASE = List.of("/actuator", "/Graphe/get");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should let requests through and release the permit afterwards")
+    void testPassesThroughAndReleases() throws Exception {
+        // Given
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50), ROUTES_SANS_BASE, meterRegistry);
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        limiter.doFilter(new MockHttpServletRequest("GET", "/Projet/getAllProjets"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        limiter.doFilter(new MockHttpServletRequest("GET", "/Projet/getAllProjets"), second, new MockFilterChain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("app.concurrency.db.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should default to the maximum sizes the pools were given, and let an explicit value win")
+    void testPermitsFromPool() {
+        // Given
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(17);
+        HikariDataSource replique = new HikariDataSource();
+        replique.setMaximumPoolSize(9);
+        StaticListableBeanFactory sansReplique = new StaticListableBeanFactory();
+        StaticListableBeanFactory avecReplique = new StaticListableBeanFactory(Map.of("repliqueDataSource", replique));
+
+        // When
+        new DatabaseConcurrencyLimiter(0, Duration.ofMillis(50), ROUTES_SANS_BASE, pool,
+                sansReplique.getBeanProvider(HikariDataSource.class), meterRegistry);
+        SimpleMeterRegistry deuxPools = new SimpleMeterRegistry();
+        new DatabaseConcurrencyLimiter(0, Duration.ofMillis(50), ROUTES_SANS_BASE, pool,
+                avecReplique.getBeanProvider(HikariDataSource.class), deuxPools);
+        SimpleMeterRegistry explicite = new SimpleMeterRegistry();
+        new DatabaseConcurrencyLimiter(4, Duration.ofMillis(50), ROUTES_SANS_BASE, pool,
+                avecReplique.getBeanProvider(HikariDataSource.class), explicite);
+
+        // Then
+        assertThat(meterRegistry.get("app.concurrency.db.available").gauge().value()).isEqualTo(17);
+        assertThat(deuxPools.get("app.concurrency.db.available").gauge().value()).isEqualTo(26);
+        assertThat(explicite.get("app.concurrency.db.available").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when every permit stays busy past the timeout")
+    void testRejectsWhenSaturated() throws Exception {
+        // Given
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50), ROUTES_SANS_BASE, meterRegistry);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (req, res) -> {
+            inside.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread holder = new Thread(() -> {
+            try {
+                limiter.doFilter(new MockHttpServletRequest("GET", "/Equipe/getAllEquipes"),
+                        new MockHttpServletResponse(), blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        limiter.doFilter(new MockHttpServletRequest("GET", "/Equipe/getAllEquipes"), rejected, new MockFilterChain());
+        release.countDown();
+        holder.join();
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Should never throttle actuator endpoints nor routes served without the database")
+    void testActuatorBypassed() throws Exception {
+        // Given
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(0, Duration.ofMillis(10), ROUTES_SANS_BASE, meterRegistry);
+        MockHttpServletResponse actuator = new MockHttpServletResponse();
+        MockHttpServletResponse graphe = new MockHttpServletResponse();
+        MockHttpServletResponse base = new MockHttpServletResponse();
+        MockHttpServletRequest requeteGraphe = new MockHttpServletRequest("GET", "/tpProjet/Graphe/getEquipesProjet/1");
+        requeteGraphe.setContextPath("/tpProjet");
+
+        // When
+        limiter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuator, new MockFilterChain());
+        limiter.doFilter(requeteGraphe, graphe, new MockFilterChain());
+        limiter.doFilter(new MockHttpServletRequest("POST", "/Graphe/reconstruire"), base, new MockFilterChain());
+
+        // Then
+        assertThat(actuator.getStatus()).isEqualTo(200);
+        assertThat(graphe.getStatus()).isEqualTo(200);
+        assertThat(base.getStatus()).isEqualTo(503);
+    }
+}
@@ -0,0 +1,64 @@
+package tn.esprit.tpprojet2025.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for HikariPoolSizing")
+class HikariPoolSizingTest {
+
+    @Test
+    @DisplayName("Should size the pool from CPU count, capped by the database share of each instance")
+    void testTaille() {
+        // When & Then
+        assertThat(HikariPoolSizing.taille(4, 150, 1)).isEqualTo(9);
+        assertThat(HikariPoolSizing.taille(32, 150, 1)).isEqualTo(65);
+        assertThat(HikariPoolSizing.taille(32, 150, 4)).isEqualTo(37);
+        assertThat(HikariPoolSizing.taille(8, 0, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep an explicit maximum-pool-size")
+    void testTailleExplicite() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.db.pool.connexions-max", "3");
+        HikariDataSource calcule = new HikariDataSource();
+        HikariDataSource impose = new HikariDataSource();
+        impose.setMaximumPoolSize(40);
+
+        // When
+        new HikariPoolSizing(environment).postProcessAfterInitialization(calcule, "dataSource");
+        new HikariPoolSizing(environment.withProperty("spring.datasource.hikari.maximum-pool-size", "40"))
+                .postProcessAfterInitialization(impose, "dataSource");
+
+        // Then
+        assertThat(calcule.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(impose.getMaximumPoolSize()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should size each pool against the share of the server it queries")
+    void testTailleParPool() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.db.pool.connexions-max", "3")
+                .withProperty("app.db.pool.replique.connexions-max", "2");
+        HikariDataSource primaire = new HikariDataSource();
+        primaire.setPoolName("primaire");
+        HikariDataSource replique = new HikariDataSource();
+        replique.setPoolName("replique");
+
+        // When
+        HikariPoolSizing sizing = new HikariPoolSizing(environment);
+        sizing.postProcessAfterInitialization(primaire, "primaireDataSource");
+        sizing.postProcessAfterInitialization(replique, "repliqueDataSource");
+
+        // Then
+        assertThat(primaire.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(replique.getMaximumPoolSize()).isEqualTo(2);
+    }
+}
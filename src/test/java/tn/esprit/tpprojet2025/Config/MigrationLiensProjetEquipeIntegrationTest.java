@@ -0,0 +1,68 @@
+package tn.esprit.tpprojet2025.Config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tn.esprit.tpprojet2025.Config.MigrationLiensProjetEquipe.*;
+import static tn.esprit.tpprojet2025.Entities.Equipe.*;
+
+/**
+ * Base remplie avant le passage de {@code Projet.equipes} en côté inverse : l'ancienne table de jointure
+ * est recréée à la main, puis reprise.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrationLiens;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa"
+})
+@DisplayName("Migration of the legacy projet_equipes join table")
+class MigrationLiensProjetEquipeIntegrationTest {
+
+    @Autowired
+    private MigrationLiensProjetEquipe migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Test
+    @DisplayName("Links only present in the legacy table are copied and the table is dropped")
+    void testReprise() {
+        // Given : un lien déjà repris, un lien présent seulement dans l'ancienne table
+        Projet deja = new Projet();
+        deja.setNomProjet("Déjà lié");
+        Projet oublie = new Projet();
+        oublie.setNomProjet("Oublié");
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Reprise");
+        equipe.setProjets(new HashSet<>(Set.of(deja, oublie)));
+        long idEquipe = equipeRepository.save(equipe).getIdEquipe();
+        jdbcTemplate.update("delete from " + PROJETS_JOIN_TABLE + " where " + PROJETS_JOIN_PROJET_COLUMN + " = ?",
+                oublie.getIdProjet());
+        jdbcTemplate.execute("create table " + ANCIENNE_TABLE + " (" + ANCIENNE_COLONNE_PROJET + " bigint not null, "
+                + ANCIENNE_COLONNE_EQUIPE + " bigint not null)");
+        jdbcTemplate.update("insert into " + ANCIENNE_TABLE + " values (?, ?), (?, ?)",
+                deja.getIdProjet(), idEquipe, oublie.getIdProjet(), idEquipe);
+
+        // When
+        migration.migrer();
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("select " + PROJETS_JOIN_PROJET_COLUMN + " from " + PROJETS_JOIN_TABLE
+                + " where " + PROJETS_JOIN_EQUIPE_COLUMN + " = ?", Long.class, idEquipe))
+                .containsExactlyInAnyOrder(deja.getIdProjet(), oublie.getIdProjet());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.tables where lower(table_name) = ?",
+                Integer.class, ANCIENNE_TABLE)).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package tn.esprit.tpprojet2025.Config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Services.IEntrepriseServices;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * La « réplique » est la même base H2 ouverte par un second utilisateur : les données sont identiques
+ * (réplication instantanée) et {@code current_user} indique le pool qui a servi la requête.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routage;DB_CLOSE_DELAY=-1;INIT=CREATE USER IF NOT EXISTS REPLIQUE PASSWORD 'replique' ADMIN",
+        "spring.datasource.username=sa",
+        "app.datasource.replica.url=jdbc:h2:mem:routage;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=REPLIQUE",
+        "app.datasource.replica.password=replique"
+})
+@DisplayName("Read/write routing between the primary and the replica pools")
+class RoutageLectureEcritureIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IEntrepriseServices entrepriseServices;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate lecture;
+    private TransactionTemplate ecriture;
+
+    @BeforeEach
+    void setUp() {
+        lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        ecriture = new TransactionTemplate(transactionManager);
+        // Le fournisseur JCache est partagé par la JVM : les régions L2 peuvent contenir les entités
+        // d'autres contextes de test, sur d'autres bases H2, sous les mêmes identifiants
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and the others to the primary")
+    void testRoutage() {
+        // When & Then
+        assertThat(lecture.<String>execute(status -> utilisateur())).isEqualTo("REPLIQUE");
+        assertThat(ecriture.<String>execute(status -> utilisateur())).isEqualTo("SA");
+        assertThat(utilisateur()).isEqualTo("SA");
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary after a write in the same request")
+    void testLectureApresEcriture() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(lecture.<String>execute(status -> utilisateur())).isEqualTo("REPLIQUE");
+
+        // When
+        Entreprise entreprise = new Entreprise();
+        entreprise.setNom("Routage");
+        long idEntreprise = entrepriseServices.AjouterEntreprise(entreprise).getIdEntreprise();
+
+        // Then
+        assertThat(lecture.<String>execute(status -> utilisateur())).isEqualTo("SA");
+        assertThat(entrepriseServices.afficherEntrepriseDTOSelonID(idEntreprise).nom()).isEqualTo("Routage");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(lecture.<String>execute(status -> utilisateur())).isEqualTo("REPLIQUE");
+    }
+
+    @Test
+    @DisplayName("Should not pin the request to the primary after a read outside any transaction")
+    void testLectureHorsTransaction() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // When
+        assertThat(utilisateur()).isEqualTo("SA");
+
+        // Then
+        assertThat(lecture.<String>execute(status -> utilisateur())).isEqualTo("REPLIQUE");
+    }
+
+    private String utilisateur() {
+        return jdbcTemplate.queryForObject("select current_user", String.class);
+    }
+}
@@ -0,0 +1,78 @@
+package tn.esprit.tpprojet2025.Config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Services.EquipeServicesImpl;
+import tn.esprit.tpprojet2025.Services.IEquipeServices;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tests for ServiceMetricsAspect")
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IEquipeServices equipeServices;
+    private EquipeRepository equipeRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ServiceMetricsAspect aspect = new ServiceMetricsAspect();
+        ReflectionTestUtils.setField(aspect, "meterRegistry", meterRegistry);
+
+        equipeRepository = mock(EquipeRepository.class);
+        EquipeServicesImpl target = new EquipeServicesImpl();
+        ReflectionTestUtils.setField(target, "equipeRepository", equipeRepository);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        equipeServices = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should record one timer per service method call, tagged by class and method")
+    void testTimerRecorded() {
+        // Given
+        when(equipeRepository.findAll()).thenReturn(List.of());
+
+        // When
+        equipeServices.afficherListeEquipes();
+        equipeServices.afficherListeEquipes();
+
+        // Then
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("class", "EquipeServicesImpl")
+                .tag("method", "afficherListeEquipes")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should tag failed calls with the exception type")
+    void testExceptionTagged() {
+        // Given
+        when(equipeRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When
+        assertThrows(java.util.NoSuchElementException.class, () -> equipeServices.afficherEquipeSelonID(99L));
+
+        // Then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("method", "afficherEquipeSelonID")
+                .tag("exception", "NoSuchElementException")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Services.IProjetServices;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:formats;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa"
+})
+@AutoConfigureMockMvc
+@DisplayName("Content negotiation of binary response formats")
+class BinaryFormatsIntegrationTest {
+
+    private static final String URL = "/Projet/getAllProjets";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("CBOR and Smile carry the same tree as JSON, with their own ETag")
+    void testSameContent() throws Exception {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            Projet projet = new Projet();
+            projet.setNomProjet("Projet " + i);
+            projet.setTypeProjet(TypeProjet.BI);
+            projetServices.AjouterProjet(projet);
+        }
+
+        // When
+        MockHttpServletResponse json = lire(MediaType.APPLICATION_JSON);
+        MockHttpServletResponse cbor = lire(MediaType.APPLICATION_CBOR);
+        MockHttpServletResponse smile = lire(MediaType.valueOf("application/x-jackson-smile"));
+
+        // Then
+        JsonNode attendu = objectMapper.readTree(json.getContentAsByteArray());
+        assertThat(cbor.getContentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(new CBORMapper().readTree(cbor.getContentAsByteArray())).isEqualTo(attendu);
+        assertThat(new SmileMapper().readTree(smile.getContentAsByteArray())).isEqualTo(attendu);
+        assertThat(cbor.getContentAsByteArray().length).isLessThan(json.getContentAsByteArray().length);
+        assertThat(cbor.getHeader(HttpHeaders.ETAG)).isNotEqualTo(json.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("JSON stays the default for wildcard Accept")
+    void testJsonByDefault() throws Exception {
+        // When
+        MockHttpServletResponse reponse = lire(MediaType.ALL);
+
+        // Then
+        assertThat(reponse.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private MockHttpServletResponse lire(MediaType type) throws Exception {
+        return mockMvc.perform(get(URL).accept(type))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+}
@@ -0,0 +1,170 @@
+package tn.esprit.tpprojet2025.Controllers;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Services.IEntrepriseServices;
+import tn.esprit.tpprojet2025.Services.IEquipeServices;
+import tn.esprit.tpprojet2025.Services.IProjetServices;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:etag;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "http.cache.max-age.entreprises=60s"
+})
+@AutoConfigureMockMvc
+@DisplayName("Conditional GET with version-based ETags")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private IEquipeServices equipeServices;
+
+    @Autowired
+    private IEntrepriseServices entrepriseServices;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("A by-id read answers 304 without loading the entity, until the project or its links change")
+    void testProjetById() throws Exception {
+        // Given
+        Projet projet = new Projet();
+        projet.setNomProjet("ETag");
+        projet.setTypeProjet(TypeProjet.DEV);
+        long idProjet = projetServices.AjouterProjet(projet).getIdProjet();
+        String url = "/Projet/getProjetById/" + idProjet;
+        String etag = etag(url);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long chargementsAvant = statistics.getEntityLoadCount();
+
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(""));
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(chargementsAvant);
+
+        // When : renommage puis affectation à une équipe
+        Projet charge = projetServices.afficherProjetSelonID(idProjet);
+        charge.setNomProjet("ETag renommé");
+        projetServices.modifierProjet(charge);
+        String apresRenommage = etag(url);
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Mobile");
+        projetServices.assignProjetToEquipe(idProjet, equipeServices.AjouterEquipe(equipe).getIdEquipe());
+
+        // Then
+        assertThat(apresRenommage).isNotEqualTo(etag);
+        assertThat(etag(url)).isNotEqualTo(apresRenommage);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.equipes[0].nomEquipe").value("Mobile"));
+    }
+
+    @Test
+    @DisplayName("A list read uses the configured policy and changes ETag when a row is added")
+    void testListeEntreprises() throws Exception {
+        // Given
+        String url = "/Entreprise/getAllEntreprises";
+        String etag = etag(url);
+
+        // When & Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, must-revalidate"));
+
+        // When
+        Entreprise entreprise = new Entreprise();
+        entreprise.setNom("Esprit");
+        entrepriseServices.AjouterEntreprise(entreprise);
+
+        // Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("A page read keeps its ETag across a rolled-back write and changes it after a committed link write")
+    void testPageProjets() throws Exception {
+        // Given
+        Projet projet = new Projet();
+        projet.setNomProjet("Page");
+        projet.setTypeProjet(TypeProjet.BI);
+        long idProjet = projetServices.AjouterProjet(projet).getIdProjet();
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Data");
+        long idEquipe = equipeServices.AjouterEquipe(equipe).getIdEquipe();
+        String url = "/Projet/getProjetsPage?size=10";
+        String etag = etag(url);
+
+        // When : écriture annulée (équipe inexistante)
+        assertThatThrownBy(() -> projetServices.assignProjetToEquipe(idProjet, Long.MAX_VALUE))
+                .isInstanceOf(NoSuchElementException.class);
+
+        // Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // When : lien écrit en JDBC, hors Hibernate
+        projetServices.assignProjetToEquipe(idProjet, idEquipe);
+
+        // Then
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("A missing resource still answers 404")
+    void testMissing() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/Equipe/getEquipeById/" + Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("An invalid page token answers 400")
+    void testJetonInvalide() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/Projet/getProjetsPage?pageToken=not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+        return etag;
+    }
+}
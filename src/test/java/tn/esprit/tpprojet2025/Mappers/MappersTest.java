@@ -0,0 +1,157 @@
+package tn.esprit.tpprojet2025.Mappers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import tn.esprit.tpprojet2025.DTO.EquipeDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeEcritureDTO;
+import tn.esprit.tpprojet2025.DTO.EquipeSummaryDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetDetailEcritureDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetEcritureDTO;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.EntrepriseRepository;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(classes = {ProjetMapperImpl.class, ProjetDetailMapperImpl.class, EquipeMapperImpl.class,
+        EntrepriseMapperImpl.class, ResumeMapperImpl.class, ReferenceMapper.class})
+@DisplayName("Tests for the MapStruct mappers")
+class MappersTest {
+
+    @Autowired
+    private ProjetMapper projetMapper;
+
+    @Autowired
+    private EquipeMapper equipeMapper;
+
+    @Autowired
+    private ResumeMapper resumeMapper;
+
+    @MockitoBean
+    private EntrepriseRepository entrepriseRepository;
+
+    private Entreprise entreprise;
+    private Projet projet;
+    private Equipe equipe1;
+    private Equipe equipe2;
+
+    @BeforeEach
+    void setUp() {
+        entreprise = new Entreprise();
+        entreprise.setIdEntreprise(1L);
+        entreprise.setNom("Esprit");
+
+        ProjetDetail detail = new ProjetDetail();
+        detail.setIdProjetDetail(5L);
+        detail.setDescription("Description");
+        detail.setCout(1000L);
+        detail.setDateDebut(LocalDate.of(2025, 1, 1));
+
+        projet = new Projet();
+        projet.setIdProjet(10L);
+        projet.setVersion(3L);
+        projet.setNomProjet("Projet");
+        projet.setTypeProjet(TypeProjet.DEV);
+        projet.setProjetDetail(detail);
+        detail.setProjet(projet);
+
+        equipe1 = equipe(1L, "Equipe 1");
+        equipe2 = equipe(2L, "Equipe 2");
+        projet.setEquipes(new HashSet<>());
+        projet.getEquipes().add(equipe2);
+        projet.getEquipes().add(equipe1);
+        equipe1.getProjets().add(projet);
+        equipe2.getProjets().add(projet);
+    }
+
+    @Test
+    @DisplayName("Should expand one level and reference the next level by summary only")
+    void testToDTO_ExpandedProjet() {
+        // When
+        ProjetDTO dto = projetMapper.toDTO(projet);
+
+        // Then
+        assertThat(dto.idProjet()).isEqualTo(10L);
+        assertThat(dto.version()).isEqualTo(3L);
+        assertThat(dto.projetDetail().idProjet()).isEqualTo(10L);
+        assertThat(dto.projetDetail().cout()).isEqualTo(1000L);
+        assertThat(dto.equipes()).extracting(EquipeSummaryDTO::idEquipe).containsExactly(1L, 2L);
+        assertThat(dto.equipes()).extracting(EquipeSummaryDTO::idEntreprise).containsOnly(1L);
+
+        EquipeDTO equipeDTO = equipeMapper.toDTO(equipe1);
+        assertThat(equipeDTO.nomEntreprise()).isEqualTo("Esprit");
+        assertThat(equipeDTO.projets()).singleElement().satisfies(p -> assertThat(p.idProjet()).isEqualTo(10L));
+        assertThat(resumeMapper.toResume(equipe1).nomEquipe()).isEqualTo("Equipe 1");
+    }
+
+    @Test
+    @DisplayName("Should build new entities without identifiers and resolve entreprise references")
+    void testToEntity() {
+        // Given
+        when(entrepriseRepository.findById(1L)).thenReturn(Optional.of(entreprise));
+        ProjetEcritureDTO projetDTO = new ProjetEcritureDTO(99L, 7L, "Nouveau", TypeProjet.BI,
+                new ProjetDetailEcritureDTO(98L, 7L, "Detail", "Java", 500L, null));
+
+        // When
+        Projet nouveau = projetMapper.toEntity(projetDTO);
+        Equipe nouvelle = equipeMapper.toEntity(new EquipeEcritureDTO(null, null, "Nouvelle", "IA", 1L));
+
+        // Then
+        assertThat(nouveau.getIdProjet()).isNull();
+        assertThat(nouveau.getVersion()).isZero();
+        assertThat(nouveau.getProjetDetail().getIdProjetDetail()).isNull();
+        assertThat(nouveau.getProjetDetail().getCout()).isEqualTo(500L);
+        assertThat(nouvelle.getEntreprise()).isSameAs(entreprise);
+        assertThrows(NoSuchElementException.class,
+                () -> equipeMapper.toEntity(new EquipeEcritureDTO(null, null, "X", null, 404L)));
+    }
+
+    @Test
+    @DisplayName("Should update scalar fields only when the version matches and keep the links")
+    void testModifier() {
+        // Given
+        ProjetEcritureDTO perime = new ProjetEcritureDTO(10L, 2L, "Renommé", TypeProjet.DS, null);
+        ProjetEcritureDTO courant = new ProjetEcritureDTO(10L, 3L, "Renommé", TypeProjet.DS, null);
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> projetMapper.modifier(perime, projet));
+        assertThat(projet.getNomProjet()).isEqualTo("Projet");
+
+        Projet modifie = projetMapper.modifier(courant, projet);
+        assertThat(modifie.getNomProjet()).isEqualTo("Renommé");
+        assertThat(modifie.getTypeProjet()).isEqualTo(TypeProjet.DS);
+        assertThat(modifie.getVersion()).isEqualTo(3L);
+        assertThat(modifie.getProjetDetail().getIdProjetDetail()).isEqualTo(5L);
+        assertThat(modifie.getEquipes()).containsExactlyInAnyOrder(equipe1, equipe2);
+
+        when(entrepriseRepository.findById(1L)).thenReturn(Optional.of(entreprise));
+        equipeMapper.modifier(new EquipeEcritureDTO(1L, 0L, "Equipe 1 bis", "Web", 1L), equipe1);
+        assertThat(equipe1.getNomEquipe()).isEqualTo("Equipe 1 bis");
+        assertThat(equipe1.getProjets()).containsExactly(projet);
+    }
+
+    private Equipe equipe(long id, String nom) {
+        Equipe equipe = new Equipe();
+        equipe.setIdEquipe(id);
+        equipe.setNomEquipe(nom);
+        equipe.setEntreprise(entreprise);
+        equipe.setProjets(new HashSet<>());
+        return equipe;
+    }
+}
@@ -0,0 +1,100 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tn.esprit.tpprojet2025.DTO.ProjetEquipeLinkDTO;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ProjetEquipeLinkRepository.class)
+@DisplayName("Tests for ProjetEquipeLinkRepository")
+class ProjetEquipeLinkRepositoryTest {
+
+    @Autowired
+    private ProjetEquipeLinkRepository linkRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Equipe equipe;
+    private List<Projet> projets;
+
+    @BeforeEach
+    void setUp() {
+        equipe = new Equipe();
+        equipe.setNomEquipe("Equipe");
+        equipe = entityManager.persist(equipe);
+        projets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Projet projet = new Projet();
+            projet.setNomProjet("Projet " + i);
+            projets.add(entityManager.persist(projet));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should insert links once and delete them without loading collections")
+    void testInsertAndDeleteLinks() {
+        // Given
+        List<ProjetEquipeLinkDTO> links = projets.stream()
+                .map(p -> new ProjetEquipeLinkDTO(p.getIdProjet(), equipe.getIdEquipe()))
+                .toList();
+
+        // When
+        Optional<List<ProjetEquipeLinkDTO>> inseres = linkRepository.insertLinks(links);
+        Optional<List<ProjetEquipeLinkDTO>> dejaPresents = linkRepository.insertLinks(links.subList(0, 1));
+
+        // Then
+        assertThat(countLinks()).isEqualTo(3);
+        assertThat(inseres).contains(links);
+        assertThat(dejaPresents).contains(List.of());
+        entityManager.clear();
+        assertThat(entityManager.find(Equipe.class, equipe.getIdEquipe()).getProjets()).hasSize(3);
+
+        // When
+        Optional<List<ProjetEquipeLinkDTO>> supprimes = linkRepository.deleteLinks(List.of(links.get(0), links.get(1), links.get(0)));
+
+        // Then
+        assertThat(countLinks()).isEqualTo(1);
+        assertThat(supprimes).contains(links.subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("Should report whether a single link changed and bump the team version")
+    void testSingleLinkAndVersion() {
+        // Given
+        long idProjet = projets.get(0).getIdProjet();
+        long versionAvant = equipe.getVersion();
+
+        // When & Then
+        assertThat(linkRepository.incrementEquipeVersions(List.of(equipe.getIdEquipe(), equipe.getIdEquipe(), -1L))).isEqualTo(1);
+        assertThat(linkRepository.insertLink(equipe.getIdEquipe(), idProjet)).isTrue();
+        assertThat(linkRepository.insertLink(equipe.getIdEquipe(), idProjet)).isFalse();
+        assertThat(linkRepository.deleteLink(equipe.getIdEquipe(), idProjet)).isTrue();
+        assertThat(linkRepository.deleteLink(equipe.getIdEquipe(), idProjet)).isFalse();
+        entityManager.clear();
+        assertThat(entityManager.find(Equipe.class, equipe.getIdEquipe()).getVersion()).isEqualTo(versionAvant + 1);
+    }
+
+    private int countLinks() {
+        return jdbcTemplate.queryForObject("select count(*) from " + Equipe.PROJETS_JOIN_TABLE
+                + " where " + Equipe.PROJETS_JOIN_EQUIPE_COLUMN + " = ?", Integer.class, equipe.getIdEquipe());
+    }
+}
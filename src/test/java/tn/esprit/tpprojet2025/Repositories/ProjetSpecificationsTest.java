@@ -0,0 +1,117 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tn.esprit.tpprojet2025.DTO.ProjetFiltreDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("Tests for ProjetSpecifications")
+class ProjetSpecificationsTest {
+
+    private static final ProjetFiltreDTO AUCUN_FILTRE = new ProjetFiltreDTO(null, null, null, null, null, null, null);
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        persist("Portail RH", TypeProjet.DEV, "Spring", 3000L, LocalDate.of(2025, 1, 10));
+        persist("Portail client", TypeProjet.DEV, "Angular", 8000L, LocalDate.of(2025, 4, 1));
+        persist("Entrepôt ventes", TypeProjet.BI, "Spring", 5000L, LocalDate.of(2025, 2, 15));
+        persist("Port_100%", TypeProjet.DS, "Python", 1000L, LocalDate.of(2024, 12, 1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void persist(String nom, TypeProjet type, String technologie, Long cout, LocalDate dateDebut) {
+        ProjetDetail detail = new ProjetDetail();
+        detail.setTechnologie(technologie);
+        detail.setCout(cout);
+        detail.setDateDebut(dateDebut);
+        Projet projet = new Projet();
+        projet.setNomProjet(nom);
+        projet.setTypeProjet(type);
+        projet.setProjetDetail(detail);
+        entityManager.persist(projet);
+    }
+
+    private Page<Projet> rechercher(ProjetFiltreDTO filtre, String tri, Sort.Direction direction, int size) {
+        return projetRepository.findAll(ProjetSpecifications.rechercher(filtre, tri, direction), PageRequest.of(0, size));
+    }
+
+    @Test
+    @DisplayName("Should combine type, name prefix and cost range")
+    void testCombinedFilters() {
+        // Given
+        ProjetFiltreDTO filtre = new ProjetFiltreDTO(TypeProjet.DEV, "Portail", null, 2000L, 5000L, null, null);
+
+        // When
+        Page<Projet> page = rechercher(filtre, null, Sort.Direction.ASC, 10);
+
+        // Then
+        assertThat(page.getContent()).extracting(Projet::getNomProjet).containsExactly("Portail RH");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should filter on detail technology and start date range")
+    void testDetailFilters() {
+        // Given
+        ProjetFiltreDTO filtre = new ProjetFiltreDTO(null, null, "Spring", null, null,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 12, 31));
+
+        // When
+        Page<Projet> page = rechercher(filtre, null, Sort.Direction.ASC, 10);
+
+        // Then
+        assertThat(page.getContent()).extracting(Projet::getNomProjet).containsExactly("Entrepôt ventes");
+    }
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards in the prefix literally")
+    void testPrefixEscaping() {
+        // When
+        Page<Projet> page = rechercher(new ProjetFiltreDTO(null, "Port_", null, null, null, null, null),
+                null, Sort.Direction.ASC, 10);
+
+        // Then
+        assertThat(page.getContent()).extracting(Projet::getNomProjet).containsExactly("Port_100%");
+    }
+
+    @Test
+    @DisplayName("Should sort on detail columns and count across pages")
+    void testSortAndPaging() {
+        // When
+        Page<Projet> page = rechercher(AUCUN_FILTRE, "cout", Sort.Direction.DESC, 2);
+
+        // Then
+        assertThat(page.getContent()).extracting(p -> p.getProjetDetail().getCout()).containsExactly(8000L, 5000L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown sort keys")
+    void testUnknownSort() {
+        assertThatThrownBy(() -> ProjetSpecifications.rechercher(AUCUN_FILTRE, "description", Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.test.StepVerifier;
+import tn.esprit.tpprojet2025.Entities.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Les données sont écrites via JPA (JDBC) et relues via R2DBC sur la même base H2 en mémoire.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password="
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Tests for ReactiveReadRepository")
+class ReactiveReadRepositoryTest {
+
+    @Autowired
+    private ReactiveReadRepository reactiveReadRepository;
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long idEntreprise;
+    private Long idEquipe;
+    private Long idProjet;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Entreprise entreprise = new Entreprise();
+            entreprise.setNom("Esprit");
+            entreprise.setAdresse("Ariana");
+            entreprise = entrepriseRepository.save(entreprise);
+
+            ProjetDetail detail = new ProjetDetail();
+            detail.setTechnologie("Spring");
+            detail.setCout(5000L);
+            detail.setDateDebut(LocalDate.of(2025, 3, 1));
+            Projet projet = new Projet();
+            projet.setNomProjet("Réactif");
+            projet.setTypeProjet(TypeProjet.DEV);
+            projet.setProjetDetail(detail);
+            projet = projetRepository.save(projet);
+
+            Equipe equipe = new Equipe();
+            equipe.setNomEquipe("Alpha");
+            equipe.setEntreprise(entreprise);
+            equipe.setProjets(new HashSet<>());
+            equipe.getProjets().add(projet);
+            equipe = equipeRepository.save(equipe);
+
+            idEntreprise = entreprise.getIdEntreprise();
+            idEquipe = equipe.getIdEquipe();
+            idProjet = projet.getIdProjet();
+        });
+    }
+
+    @Test
+    @DisplayName("Should stream lists and honour backpressure")
+    void testStreams() {
+        StepVerifier.create(reactiveReadRepository.findAllProjets(), 0)
+                .thenRequest(1)
+                .assertNext(p -> assertThat(p.nomProjet()).isEqualTo("Réactif"))
+                .thenRequest(Long.MAX_VALUE)
+                .verifyComplete();
+        StepVerifier.create(reactiveReadRepository.findAllEquipes())
+                .assertNext(e -> assertThat(e.idEntreprise()).isEqualTo(idEntreprise))
+                .verifyComplete();
+        StepVerifier.create(reactiveReadRepository.findAllEntreprises())
+                .assertNext(e -> assertThat(e.nom()).isEqualTo("Esprit"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should assemble by-id views with their associations")
+    void testById() {
+        StepVerifier.create(reactiveReadRepository.findProjetById(idProjet))
+                .assertNext(p -> {
+                    assertThat(p.typeProjet()).isEqualTo(TypeProjet.DEV);
+                    assertThat(p.projetDetail().cout()).isEqualTo(5000L);
+                    assertThat(p.projetDetail().dateDebut()).isEqualTo(LocalDate.of(2025, 3, 1));
+                    assertThat(p.equipes()).singleElement().satisfies(e -> assertThat(e.idEquipe()).isEqualTo(idEquipe));
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveReadRepository.findEquipeById(idEquipe))
+                .assertNext(e -> {
+                    assertThat(e.nomEntreprise()).isEqualTo("Esprit");
+                    assertThat(e.projets()).singleElement().satisfies(p -> assertThat(p.idProjet()).isEqualTo(idProjet));
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveReadRepository.findEntrepriseById(idEntreprise))
+                .assertNext(e -> assertThat(e.equipes()).hasSize(1))
+                .verifyComplete();
+        StepVerifier.create(reactiveReadRepository.findProjetById(-1L)).verifyComplete();
+    }
+}
@@ -0,0 +1,134 @@
+package tn.esprit.tpprojet2025.Repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import tn.esprit.tpprojet2025.DTO.CoutMensuelDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEntrepriseDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParEquipeDTO;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.Entities.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Tests for StatistiquesCoutRepository")
+class StatistiquesCoutRepositoryTest {
+
+    @Autowired
+    private StatistiquesCoutRepository statistiquesCoutRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Entreprise entreprise;
+    private Equipe equipeA;
+    private Equipe equipeB;
+    private Projet partage;
+
+    @BeforeEach
+    void setUp() {
+        entreprise = new Entreprise();
+        entreprise.setNom("Esprit");
+        entreprise = entityManager.persist(entreprise);
+
+        partage = persist("Partagé", TypeProjet.DEV, 1000L, LocalDate.of(2025, 1, 5));
+        Projet dev = persist("Dev", TypeProjet.DEV, 3000L, LocalDate.of(2025, 1, 20));
+        Projet bi = persist("BI", TypeProjet.BI, 2000L, LocalDate.of(2025, 3, 1));
+        Projet sansDetail = new Projet();
+        sansDetail.setNomProjet("Sans détail");
+        sansDetail.setTypeProjet(TypeProjet.DS);
+        sansDetail = entityManager.persist(sansDetail);
+
+        equipeA = equipe("A", Set.of(partage, dev, sansDetail));
+        equipeB = equipe("B", Set.of(partage, bi));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Projet persist(String nom, TypeProjet type, Long cout, LocalDate dateDebut) {
+        ProjetDetail detail = new ProjetDetail();
+        detail.setCout(cout);
+        detail.setDateDebut(dateDebut);
+        Projet projet = new Projet();
+        projet.setNomProjet(nom);
+        projet.setTypeProjet(type);
+        projet.setProjetDetail(detail);
+        return entityManager.persist(projet);
+    }
+
+    private Equipe equipe(String nom, Set<Projet> projets) {
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe(nom);
+        equipe.setEntreprise(entreprise);
+        equipe.setProjets(new HashSet<>(projets));
+        return entityManager.persist(equipe);
+    }
+
+    @Test
+    @DisplayName("Should aggregate costs per project type, skipping projects without detail")
+    void testCoutsParType() {
+        // When
+        List<CoutParTypeDTO> result = statistiquesCoutRepository.findCoutsParType();
+
+        // Then
+        assertThat(result).containsExactly(
+                new CoutParTypeDTO(TypeProjet.BI, 1L, 2000L, 2000.0, 2000L),
+                new CoutParTypeDTO(TypeProjet.DEV, 2L, 4000L, 2000.0, 3000L));
+        assertThat(statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.DEV)).contains(result.get(1));
+        assertThat(statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.DS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should aggregate costs per team")
+    void testCoutsParEquipe() {
+        // When
+        List<CoutParEquipeDTO> result = statistiquesCoutRepository.findCoutsParEquipe();
+
+        // Then
+        assertThat(result).containsExactly(
+                new CoutParEquipeDTO(equipeA.getIdEquipe(), "A", 2L, 4000L, 2000.0, 3000L),
+                new CoutParEquipeDTO(equipeB.getIdEquipe(), "B", 2L, 3000L, 1500.0, 2000L));
+    }
+
+    @Test
+    @DisplayName("Should count a project shared by two teams once per entreprise")
+    void testCoutsParEntreprise() {
+        // When
+        List<CoutParEntrepriseDTO> result = statistiquesCoutRepository.findCoutsParEntreprise();
+
+        // Then
+        assertThat(result).containsExactly(
+                new CoutParEntrepriseDTO(entreprise.getIdEntreprise(), "Esprit", 3L, 6000L, 2000.0, 3000L));
+    }
+
+    @Test
+    @DisplayName("Should bucket costs by start month")
+    void testCoutsMensuels() {
+        // When
+        List<CoutMensuelDTO> result = statistiquesCoutRepository.findCoutsMensuels();
+
+        // Then
+        assertThat(result).containsExactly(
+                new CoutMensuelDTO(2025, 1, 2L, 4000L, 2000.0, 3000L),
+                new CoutMensuelDTO(2025, 3, 1L, 2000L, 2000.0, 2000L));
+    }
+
+    @Test
+    @DisplayName("Should resolve the project type of a detail")
+    void testTypeProjetByIdProjetDetail() {
+        // Given
+        Long idDetail = entityManager.find(Projet.class, partage.getIdProjet()).getProjetDetail().getIdProjetDetail();
+
+        // When & Then
+        assertThat(statistiquesCoutRepository.findTypeProjetByIdProjetDetail(idDetail)).contains(TypeProjet.DEV);
+    }
+}
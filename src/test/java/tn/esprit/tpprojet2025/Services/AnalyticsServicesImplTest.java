@@ -0,0 +1,180 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.Entities.ResumeCoutType;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.ResumeCoutTypeRepository;
+import tn.esprit.tpprojet2025.Repositories.StatistiquesCoutRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for AnalyticsServicesImpl")
+class AnalyticsServicesImplTest {
+
+    @Mock
+    private StatistiquesCoutRepository statistiquesCoutRepository;
+
+    @Mock
+    private ResumeCoutTypeRepository resumeCoutTypeRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private AnalyticsServicesImpl analyticsServices;
+
+    private final CoutParTypeDTO agregatDev = new CoutParTypeDTO(TypeProjet.DEV, 2L, 4000L, 2000.0, 3000L);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(analyticsServices, "resumeActif", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should upsert only the summary row of the affected type, after locking it")
+    void testRafraichirResumeType() {
+        // Given
+        when(resumeCoutTypeRepository.findForUpdateByTypeProjet(TypeProjet.DEV)).thenReturn(Optional.empty());
+        when(statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.DEV)).thenReturn(Optional.of(agregatDev));
+        ArgumentCaptor<ResumeCoutType> captor = ArgumentCaptor.forClass(ResumeCoutType.class);
+
+        // When
+        analyticsServices.rafraichirResumeType(TypeProjet.DEV);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(resumeCoutTypeRepository).save(captor.capture()));
+        InOrder ordre = inOrder(resumeCoutTypeRepository, statistiquesCoutRepository);
+        ordre.verify(resumeCoutTypeRepository).findForUpdateByTypeProjet(TypeProjet.DEV);
+        ordre.verify(statistiquesCoutRepository).findCoutsByTypeProjet(TypeProjet.DEV);
+        assertThat(captor.getValue().getTypeProjet()).isEqualTo(TypeProjet.DEV);
+        assertThat(captor.getValue().getCoutTotal()).isEqualTo(4000L);
+        assertThat(captor.getValue().getDateMiseAJour()).isNotNull();
+        verify(statistiquesCoutRepository, never()).findCoutsParType();
+    }
+
+    @Test
+    @DisplayName("Should zero the summary row when a type has no costed project left")
+    void testRafraichirResumeType_Empty() {
+        // Given
+        ResumeCoutType resume = resume(TypeProjet.BI, 2L, 500L, 250.0, 300L);
+        when(resumeCoutTypeRepository.findForUpdateByTypeProjet(TypeProjet.BI)).thenReturn(Optional.of(resume));
+        when(statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.BI)).thenReturn(Optional.empty());
+
+        // When
+        analyticsServices.rafraichirResumeType(TypeProjet.BI);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(resumeCoutTypeRepository).save(resume));
+        assertThat(resume.getNombreProjets()).isZero();
+        assertThat(resume.getCoutMax()).isNull();
+        verify(resumeCoutTypeRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should refresh only after the writing transaction commits")
+    void testRafraichirResumeType_ApresCommit() {
+        // Given
+        when(resumeCoutTypeRepository.findForUpdateByTypeProjet(TypeProjet.DEV)).thenReturn(Optional.empty());
+        when(statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.DEV)).thenReturn(Optional.of(agregatDev));
+
+        // When : une transaction annulée, puis une validée
+        TransactionSynchronizationManager.initSynchronization();
+        analyticsServices.rafraichirResumeType(TypeProjet.DEV);
+        List<TransactionSynchronization> annulee = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        annulee.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verifyNoInteractions(resumeCoutTypeRepository, statistiquesCoutRepository);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        analyticsServices.rafraichirResumeType(TypeProjet.DEV);
+        List<TransactionSynchronization> validee = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        validee.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(resumeCoutTypeRepository).save(any(ResumeCoutType.class)));
+    }
+
+    @Test
+    @DisplayName("Should refresh the type of a modified detail")
+    void testRafraichirResumeProjetDetail() {
+        // Given
+        when(statistiquesCoutRepository.findTypeProjetByIdProjetDetail(7L)).thenReturn(Optional.of(TypeProjet.DEV));
+        when(resumeCoutTypeRepository.findForUpdateByTypeProjet(TypeProjet.DEV)).thenReturn(Optional.empty());
+        when(statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.DEV)).thenReturn(Optional.of(agregatDev));
+
+        // When
+        analyticsServices.rafraichirResumeProjetDetail(7L);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(resumeCoutTypeRepository).save(any(ResumeCoutType.class)));
+    }
+
+    @Test
+    @DisplayName("Should read the summary table without empty types, or compute live when it is disabled")
+    void testAfficherResumeParType() {
+        // Given
+        ResumeCoutType resume = new ResumeCoutType();
+        resume.setTypeProjet(TypeProjet.DEV);
+        resume.setNombreProjets(2L);
+        resume.setCoutTotal(4000L);
+        resume.setCoutMoyen(2000.0);
+        resume.setCoutMax(3000L);
+        ResumeCoutType vide = resume(TypeProjet.BI, 0L, 0L, null, null);
+        when(resumeCoutTypeRepository.findAll()).thenReturn(List.of(vide, resume));
+
+        // When & Then
+        assertThat(analyticsServices.afficherResumeParType()).containsExactly(agregatDev);
+        verify(statistiquesCoutRepository, never()).findCoutsParType();
+
+        ReflectionTestUtils.setField(analyticsServices, "resumeActif", false);
+        when(statistiquesCoutRepository.findCoutsParType()).thenReturn(List.of(agregatDev));
+        assertThat(analyticsServices.afficherResumeParType()).containsExactly(agregatDev);
+        analyticsServices.rafraichirResumeType(TypeProjet.DEV);
+        verify(resumeCoutTypeRepository, never()).save(any());
+    }
+
+    private static ResumeCoutType resume(TypeProjet typeProjet, Long nombreProjets, Long coutTotal, Double coutMoyen, Long coutMax) {
+        ResumeCoutType resume = new ResumeCoutType();
+        resume.setTypeProjet(typeProjet);
+        resume.setNombreProjets(nombreProjets);
+        resume.setCoutTotal(coutTotal);
+        resume.setCoutMoyen(coutMoyen);
+        resume.setCoutMax(coutMax);
+        return resume;
+    }
+}
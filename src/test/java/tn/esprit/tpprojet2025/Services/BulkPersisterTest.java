@@ -0,0 +1,71 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for BulkPersister")
+class BulkPersisterTest {
+
+    @Mock
+    private ProjetRepository projetRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private BulkPersister bulkPersister;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkPersister, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Should save in chunks of the JDBC batch size and clear the context between chunks")
+    void testSaveAllInChunks() {
+        // Given
+        List<Projet> projets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            projets.add(new Projet());
+        }
+        when(projetRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        List<Projet> result = bulkPersister.saveAll(projetRepository, projets);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(projets);
+        InOrder inOrder = inOrder(projetRepository, entityManager);
+        inOrder.verify(projetRepository).saveAll(projets.subList(0, 2));
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(projetRepository).saveAll(projets.subList(2, 4));
+        inOrder.verify(projetRepository).saveAll(projets.subList(4, 5));
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("Should not touch the database for an empty list")
+    void testSaveAllEmpty() {
+        assertThat(bulkPersister.saveAll(projetRepository, List.of())).isEmpty();
+        verifyNoInteractions(projetRepository, entityManager);
+    }
+}
@@ -0,0 +1,143 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tn.esprit.tpprojet2025.Config.RetryOnConflict;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Affectations concurrentes sur une même équipe et sur un même projet : aucune mise à jour perdue,
+ * les conflits de version sont absorbés par les reprises.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrence;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+@DisplayName("Concurrent link and detail assignments")
+class ConcurrentLinkIntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int PROJETS = 200;
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private ProjetDetailRepository projetDetailRepository;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Parallel assign/unassign on one team keeps every link")
+    void testNoLostLinks() throws Exception {
+        // Given
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Cible");
+        long idEquipe = equipeRepository.save(equipe).getIdEquipe();
+        List<Long> idsProjets = new ArrayList<>();
+        for (int i = 0; i < PROJETS; i++) {
+            Projet projet = new Projet();
+            projet.setNomProjet("Projet " + i);
+            projet.setTypeProjet(TypeProjet.DEV);
+            idsProjets.add(projetRepository.save(projet).getIdProjet());
+        }
+
+        // When : chaque lien est demandé deux fois, en parallèle
+        runConcurrently(IntStream.range(0, PROJETS * 2)
+                .mapToObj(i -> (Runnable) () -> projetServices.assignProjetToEquipe(idsProjets.get(i % PROJETS), idEquipe))
+                .toList());
+
+        // Then
+        assertThat(countLinks(idEquipe)).isEqualTo(PROJETS);
+        assertThat(equipeRepository.findById(idEquipe).get().getVersion()).isEqualTo(PROJETS * 2L);
+        assertThat(statistiquesProjets.afficherStatistiques().projetsParEquipe()).containsEntry(idEquipe, (long) PROJETS);
+
+        // When
+        runConcurrently(idsProjets.subList(0, PROJETS / 2).stream()
+                .map(idProjet -> (Runnable) () -> projetServices.UnassignProjetFromEquipe(idEquipe, idProjet))
+                .toList());
+
+        // Then
+        assertThat(countLinks(idEquipe)).isEqualTo(PROJETS / 2);
+        assertThat(statistiquesProjets.afficherStatistiques().projetsParEquipe()).containsEntry(idEquipe, (long) PROJETS / 2);
+    }
+
+    @Test
+    @DisplayName("Parallel detail assignments on one project are retried instead of failing")
+    void testOptimisticConflictsRetried() throws Exception {
+        // Given
+        Projet projet = new Projet();
+        projet.setNomProjet("Disputé");
+        Projet saved = projetRepository.save(projet);
+        List<Long> idsDetails = new ArrayList<>();
+        // Chaque tentative perdue l'est au profit d'un autre fil : MAX_ATTEMPTS - 1 concurrents aboutissent toujours
+        for (int i = 0; i < RetryOnConflict.MAX_ATTEMPTS - 1; i++) {
+            ProjetDetail detail = new ProjetDetail();
+            detail.setCout((long) i);
+            idsDetails.add(projetDetailRepository.save(detail).getIdProjetDetail());
+        }
+
+        // When
+        runConcurrently(idsDetails.stream()
+                .map(idDetail -> (Runnable) () -> projetServices.assignProjetDetailToProjet(saved.getIdProjet(), idDetail))
+                .toList());
+
+        // Then : chaque affectation a bien été appliquée une fois
+        assertThat(projetRepository.findById(saved.getIdProjet()).get().getVersion())
+                .isEqualTo(saved.getVersion() + idsDetails.size());
+    }
+
+    private void runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch depart = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    depart.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            depart.countDown();
+            for (Future<?> future : futures) {
+                // Toute exception (conflit non absorbé, interblocage) fait échouer le test
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countLinks(long idEquipe) {
+        return jdbcTemplate.queryForObject("select count(*) from " + Equipe.PROJETS_JOIN_TABLE
+                + " where " + Equipe.PROJETS_JOIN_EQUIPE_COLUMN + " = ?", Integer.class, idEquipe);
+    }
+}
@@ -27,6 +27,9 @@ class EntrepriseServicesImplTest {
     @Mock
     private EntrepriseRepository entrepriseRepository;
 
+    @Mock
+    private IGrapheEquipesServices grapheEquipes;
+
     @InjectMocks
     private EntrepriseServicesImpl entrepriseServices;
 
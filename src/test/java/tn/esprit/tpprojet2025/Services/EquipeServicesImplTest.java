@@ -7,18 +7,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import tn.esprit.tpprojet2025.Entities.Equipe;
 import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
 import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +37,18 @@ class EquipeServicesImplTest {
     @Mock
     private EquipeRepository equipeRepository;
 
+    @Mock
+    private ProjetRepository projetRepository;
+
+    @Mock
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Mock
+    private IGrapheEquipesServices grapheEquipes;
+
+    @Mock
+    private IAnalyticsServices analyticsServices;
+
     @InjectMocks
     private EquipeServicesImpl equipeServices;
 
@@ -137,9 +158,80 @@ class EquipeServicesImplTest {
     }
 
     @Test
-    @DisplayName("Should delete equipe by ID")
+    @DisplayName("Should not touch the cost summary when a team is renamed")
+    void testModifierEquipe_Renommage() {
+        // Given
+        equipe.setProjets(new HashSet<>(Set.of(projet(10L, TypeProjet.DEV, 5L, 300L))));
+        when(equipeRepository.findProjetIdsByIdEquipeIn(List.of(1L))).thenReturn(List.<Object[]>of(new Object[]{1L, 10L}));
+        when(projetRepository.findTypesEtDetailsByIdProjetIn(Set.of(10L)))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, TypeProjet.DEV, 5L, 300L}));
+        when(equipeRepository.save(equipe)).thenReturn(equipe);
+
+        // When
+        equipeServices.modifierEquipe(equipe);
+
+        // Then
+        verifyNoInteractions(analyticsServices, statistiquesProjets);
+    }
+
+    @Test
+    @DisplayName("Should apply per-project deltas and refresh only the types of cascaded projects that changed")
+    void testModifierEquipe_ProjetsModifies() {
+        // Given : 11 change de type, 13 n'est plus lié à l'équipe
+        equipe.setProjets(new HashSet<>(Set.of(projet(10L, TypeProjet.DEV, 5L, 300L), projet(11L, TypeProjet.BI, 6L, 900L),
+                projet(12L, TypeProjet.DEV, null, null))));
+        when(equipeRepository.findProjetIdsByIdEquipeIn(List.of(1L))).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 10L}, new Object[]{1L, 11L}, new Object[]{1L, 12L}, new Object[]{1L, 13L}));
+        when(projetRepository.findTypesEtDetailsByIdProjetIn(Set.of(10L, 11L, 12L, 13L))).thenReturn(List.<Object[]>of(
+                new Object[]{10L, TypeProjet.DEV, 5L, 300L},
+                new Object[]{11L, TypeProjet.DS, 6L, 900L},
+                new Object[]{12L, TypeProjet.DEV, null, null},
+                new Object[]{13L, TypeProjet.BI, null, null}));
+        when(equipeRepository.save(equipe)).thenReturn(equipe);
+
+        // When
+        equipeServices.modifierEquipe(equipe);
+
+        // Then
+        verify(statistiquesProjets).typeModifie(TypeProjet.DS, TypeProjet.BI);
+        verify(statistiquesProjets).coutModifie(900L, 900L);
+        verify(statistiquesProjets).projetDesaffecte(1L);
+        verifyNoMoreInteractions(statistiquesProjets);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DS);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.BI);
+        verifyNoMoreInteractions(analyticsServices);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the statistics only when a cascaded project changes detail")
+    void testModifierEquipe_DetailRemplace() {
+        // Given
+        equipe.setProjets(new HashSet<>(Set.of(projet(10L, TypeProjet.DEV, 7L, 300L))));
+        when(equipeRepository.findProjetIdsByIdEquipeIn(List.of(1L))).thenReturn(List.<Object[]>of(new Object[]{1L, 10L}));
+        when(projetRepository.findTypesEtDetailsByIdProjetIn(Set.of(10L)))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, TypeProjet.DEV, 5L, 300L}));
+        when(equipeRepository.save(equipe)).thenReturn(equipe);
+
+        // When
+        equipeServices.modifierEquipe(equipe);
+
+        // Then
+        verify(statistiquesProjets).reconstruire();
+        verifyNoMoreInteractions(statistiquesProjets);
+    }
+
+    @Test
+    @DisplayName("Should delete equipe by ID, count its projects out and refresh their types")
     void testSupprimerEquipe() {
         // Given
+        Projet partage = projet(10L, TypeProjet.DEV, 5L, 300L);
+        Equipe autre = new Equipe();
+        autre.setIdEquipe(2L);
+        partage.setEquipes(Set.of(equipe, autre));
+        Projet seul = projet(11L, TypeProjet.BI, null, null);
+        seul.setEquipes(Set.of(equipe));
+        equipe.setProjets(new HashSet<>(Set.of(partage, seul)));
+        when(equipeRepository.findById(1L)).thenReturn(Optional.of(equipe));
         doNothing().when(equipeRepository).deleteById(anyLong());
 
         // When
@@ -147,6 +239,13 @@ class EquipeServicesImplTest {
 
         // Then
         verify(equipeRepository, times(1)).deleteById(1L);
+        verify(grapheEquipes).equipeSupprimee(1L);
+        verify(statistiquesProjets).projetSupprime(eq(TypeProjet.DEV), eq(300L),
+                argThat(equipes -> Set.copyOf(equipes).equals(Set.of(1L, 2L))));
+        verify(statistiquesProjets).projetSupprime(TypeProjet.BI, null, List.of(1L));
+        verifyNoMoreInteractions(statistiquesProjets);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DEV);
+        verifyNoMoreInteractions(analyticsServices);
     }
 
     @Test
@@ -191,4 +290,34 @@ class EquipeServicesImplTest {
         assertThat(result.getEntreprise().getNom()).isEqualTo("Test Entreprise");
         verify(equipeRepository, times(1)).save(equipe);
     }
-}
\ No newline at end of file
+
+    private static Projet projet(long idProjet, TypeProjet typeProjet, Long idProjetDetail, Long cout) {
+        Projet projet = new Projet();
+        projet.setIdProjet(idProjet);
+        projet.setTypeProjet(typeProjet);
+        if (idProjetDetail != null) {
+            ProjetDetail detail = new ProjetDetail();
+            detail.setIdProjetDetail(idProjetDetail);
+            detail.setCout(cout);
+            projet.setProjetDetail(detail);
+        }
+        return projet;
+    }
+
+    @Test
+    @DisplayName("Should return a single keyset page when fewer rows than the page size remain")
+    void testAfficherPageEquipes() {
+        // Given
+        when(equipeRepository.findByIdEquipeGreaterThanOrderByIdEquipeAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(equipe));
+
+        // When
+        KeysetPage<Equipe> result = equipeServices.afficherPageEquipes(null, 0);
+
+        // Then
+        assertThat(result.items()).containsExactly(equipe);
+        assertThat(result.hasNext()).isFalse();
+        verify(equipeRepository, times(1)).findByIdEquipeGreaterThanOrderByIdEquipeAsc(
+                0L, PageRequest.of(0, PageTokens.DEFAULT_PAGE_SIZE + 1));
+    }
+}
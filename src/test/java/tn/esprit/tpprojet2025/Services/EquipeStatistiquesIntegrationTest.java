@@ -0,0 +1,90 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.StatistiquesProjetsDTO;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Écritures d'équipe en cascade sur leurs projets : les compteurs mis à jour par différence restent
+ * égaux à ceux d'un recalcul complet.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statistiquesEquipes;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa"
+})
+@DisplayName("Project statistics after team writes")
+class EquipeStatistiquesIntegrationTest {
+
+    @Autowired
+    private IEquipeServices equipeServices;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Create, edit and delete of a team keep the counters equal to a rebuild")
+    void testDeltasEquipe() {
+        // Given
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Deltas");
+        equipe.setProjets(new HashSet<>(Set.of(projet("A", TypeProjet.DS, 100L), projet("B", TypeProjet.BI, null))));
+
+        // When : création, puis changement de type et de coût d'un projet et retrait de l'autre
+        long idEquipe = equipeServices.AjouterEquipe(equipe).getIdEquipe();
+        assertEgalesAuRecalcul();
+        Equipe modifiee = transactionTemplate.execute(status -> {
+            Equipe chargee = equipeRepository.findById(idEquipe).orElseThrow();
+            Hibernate.initialize(chargee.getProjets());
+            return chargee;
+        });
+        Projet conserve = modifiee.getProjets().stream().filter(p -> p.getNomProjet().equals("A")).findFirst().orElseThrow();
+        conserve.setTypeProjet(TypeProjet.DEV);
+        conserve.getProjetDetail().setCout(250L);
+        modifiee.setProjets(new HashSet<>(Set.of(conserve)));
+        equipeServices.modifierEquipe(modifiee);
+        assertEgalesAuRecalcul();
+        equipeServices.supprimerEquipe(idEquipe);
+
+        // Then
+        assertEgalesAuRecalcul();
+    }
+
+    private void assertEgalesAuRecalcul() {
+        StatistiquesProjetsDTO courantes = statistiquesProjets.afficherStatistiques();
+        statistiquesProjets.reconstruire();
+        assertThat(courantes).isEqualTo(statistiquesProjets.afficherStatistiques());
+    }
+
+    private static Projet projet(String nom, TypeProjet typeProjet, Long cout) {
+        Projet projet = new Projet();
+        projet.setNomProjet(nom);
+        projet.setTypeProjet(typeProjet);
+        if (cout != null) {
+            ProjetDetail detail = new ProjetDetail();
+            detail.setDescription(nom);
+            detail.setCout(cout);
+            projet.setProjetDetail(detail);
+        }
+        return projet;
+    }
+}
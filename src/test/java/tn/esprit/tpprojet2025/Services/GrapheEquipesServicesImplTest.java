@@ -0,0 +1,115 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for GrapheEquipesServicesImpl")
+class GrapheEquipesServicesImplTest {
+
+    @Mock
+    private EquipeRepository equipeRepository;
+
+    @InjectMocks
+    private GrapheEquipesServicesImpl grapheEquipes;
+
+    @BeforeEach
+    void setUp() {
+        // Entreprise 1 : équipes 10 et 11 ; entreprise 2 : équipe 20 ; équipe 30 sans entreprise
+        List<Object[]> entreprises = lignes(10, 1, 11, 1, 20, 2);
+        entreprises.add(new Object[]{30L, null});
+        when(equipeRepository.findEntrepriseIds()).thenReturn(entreprises);
+        when(equipeRepository.findProjetIds()).thenReturn(lignes(10, 100, 10, 101, 11, 102, 20, 101, 30, 102));
+        grapheEquipes.reconstruire();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should traverse the graph loaded at startup")
+    void testParcours() {
+        // When & Then
+        assertThat(grapheEquipes.projetsDeLEntreprise(1L)).containsExactly(100L, 101L, 102L);
+        assertThat(grapheEquipes.projetsDeLEntreprise(404L)).isEmpty();
+        assertThat(grapheEquipes.equipesDuProjet(101L)).containsExactly(10L, 20L);
+        assertThat(grapheEquipes.equipesPartageantUnProjet(10L)).containsExactly(20L);
+        assertThat(grapheEquipes.equipesPartageantUnProjet(11L)).containsExactly(30L);
+        assertThat(grapheEquipes.entreprisesPartenaires(1L)).containsExactly(2L);
+        assertThat(grapheEquipes.entreprisesPartenaires(2L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should follow link changes, team reloads and cascading deletions")
+    void testMisesAJour() {
+        // Given
+        when(equipeRepository.findEntrepriseIdsByIdEquipeIn(List.of(11L))).thenReturn(lignes(11, 2));
+        when(equipeRepository.findProjetIdsByIdEquipeIn(List.of(11L))).thenReturn(lignes(11, 102));
+
+        // When & Then
+        grapheEquipes.lienRetire(20L, 101L);
+        assertThat(grapheEquipes.entreprisesPartenaires(1L)).isEmpty();
+        grapheEquipes.lienAjoute(20L, 100L);
+        assertThat(grapheEquipes.equipesDuProjet(100L)).containsExactly(10L, 20L);
+
+        grapheEquipes.equipesModifiees(List.of(11L));
+        assertThat(grapheEquipes.projetsDeLEntreprise(1L)).containsExactly(100L, 101L);
+        assertThat(grapheEquipes.projetsDeLEntreprise(2L)).containsExactly(100L, 102L);
+
+        // La suppression de l'équipe 10 emporte l'entreprise 1 et les projets 100 et 101
+        grapheEquipes.equipeSupprimee(10L);
+        assertThat(grapheEquipes.projetsDeLEntreprise(1L)).isEmpty();
+        assertThat(grapheEquipes.equipesDuProjet(100L)).isEmpty();
+        assertThat(grapheEquipes.projetsDeLEntreprise(2L)).containsExactly(102L);
+
+        grapheEquipes.projetSupprime(102L);
+        assertThat(grapheEquipes.equipesPartageantUnProjet(30L)).isEmpty();
+        grapheEquipes.entrepriseSupprimee(2L);
+        assertThat(grapheEquipes.projetsDeLEntreprise(2L)).isEmpty();
+        verify(equipeRepository, times(1)).findEntrepriseIds();
+    }
+
+    @Test
+    @DisplayName("Should defer updates made inside a transaction until commit")
+    void testApresCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        grapheEquipes.lienAjoute(30L, 100L);
+
+        // Then
+        assertThat(grapheEquipes.equipesDuProjet(100L)).containsExactly(10L);
+        List<TransactionSynchronization> synchronisations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronisations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(grapheEquipes.equipesDuProjet(100L)).containsExactly(10L, 30L);
+    }
+
+    private static List<Object[]> lignes(long... ids) {
+        List<Object[]> lignes = new ArrayList<>();
+        for (int i = 0; i < ids.length; i += 2) {
+            lignes.add(new Object[]{ids[i], ids[i + 1]});
+        }
+        return lignes;
+    }
+}
@@ -0,0 +1,113 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tn.esprit.tpprojet2025.DTO.IngestionStatutDTO;
+import tn.esprit.tpprojet2025.DTO.IngestionStatutDTO.Etat;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Ingestion asynchrone : les demandes sont regroupées en quelques transactions, les doublons
+ * ne créent qu'un projet et une demande invalide n'empêche pas les autres de son lot.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestion;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "ingestion.projets.taille-lot=200"
+})
+@DisplayName("Asynchronous batched project ingestion")
+class IngestionProjetsIntegrationTest {
+
+    private static final int DEMANDES = 1000;
+
+    @Autowired
+    private IIngestionProjetsServices ingestionProjets;
+
+    @Autowired
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private ProjetDetailRepository projetDetailRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Many submissions are written in few transactions, duplicates once")
+    void testBatchedAndIdempotent() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long projetsAvant = projetRepository.count();
+        long statsAvant = statistiquesProjets.afficherStatistiques().nombreProjets();
+        long transactionsAvant = statistics.getTransactionCount();
+
+        // When : chaque clé est envoyée deux fois
+        List<String> cles = IntStream.range(0, DEMANDES).mapToObj(i -> "lot-" + i).toList();
+        for (String cle : cles) {
+            ingestionProjets.soumettreProjet(cle, projet(cle));
+        }
+        cles.forEach(cle -> ingestionProjets.soumettreProjet(cle, projet(cle)));
+        await().atMost(Duration.ofSeconds(60))
+                .until(() -> cles.stream().allMatch(cle -> ingestionProjets.afficherStatut(cle).etat() == Etat.TERMINE));
+
+        // Then
+        assertThat(projetRepository.count()).isEqualTo(projetsAvant + DEMANDES);
+        assertThat(statistiquesProjets.afficherStatistiques().nombreProjets()).isEqualTo(statsAvant + DEMANDES);
+        assertThat(cles.stream().map(cle -> ingestionProjets.afficherStatut(cle).idProjet()).distinct()).hasSize(DEMANDES);
+        assertThat(statistics.getTransactionCount() - transactionsAvant).isLessThan(DEMANDES / 10);
+    }
+
+    @Test
+    @DisplayName("A request on a missing detail fails alone")
+    void testFailureIsolated() {
+        // Given
+        ProjetDetail detail = new ProjetDetail();
+        detail.setTechnologie("Java");
+        detail.setCout(100L);
+        long idDetail = projetDetailRepository.save(detail).getIdProjetDetail();
+
+        // When
+        ingestionProjets.soumettreProjetEtAffecter("affecte-ok", projet("affecte-ok"), idDetail);
+        ingestionProjets.soumettreProjetEtAffecter("affecte-ko", projet("affecte-ko"), Long.MAX_VALUE);
+        ingestionProjets.soumettreProjet("simple", projet("simple"));
+        await().atMost(Duration.ofSeconds(30)).until(() -> List.of("affecte-ok", "affecte-ko", "simple").stream()
+                .noneMatch(cle -> ingestionProjets.afficherStatut(cle).etat() == Etat.EN_ATTENTE));
+
+        // Then
+        IngestionStatutDTO ok = ingestionProjets.afficherStatut("affecte-ok");
+        assertThat(ok.etat()).isEqualTo(Etat.TERMINE);
+        assertThat(projetRepository.findById(ok.idProjet())).get()
+                .extracting(p -> p.getProjetDetail().getIdProjetDetail()).isEqualTo(idDetail);
+        assertThat(ingestionProjets.afficherStatut("simple").etat()).isEqualTo(Etat.TERMINE);
+        IngestionStatutDTO ko = ingestionProjets.afficherStatut("affecte-ko");
+        assertThat(ko.etat()).isEqualTo(Etat.ECHEC);
+        assertThat(ko.erreur()).contains(String.valueOf(Long.MAX_VALUE));
+    }
+
+    private static Projet projet(String nom) {
+        Projet projet = new Projet();
+        projet.setNomProjet(nom);
+        projet.setTypeProjet(TypeProjet.DEV);
+        return projet;
+    }
+}
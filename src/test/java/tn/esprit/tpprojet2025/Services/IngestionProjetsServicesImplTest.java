@@ -0,0 +1,123 @@
+package tn.esprit.tpprojet2025.Services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.IngestionStatutDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Tests for IngestionProjetsServicesImpl")
+class IngestionProjetsServicesImplTest {
+
+    private IngestionProjetsServicesImpl ingestionProjets;
+    private BlockingQueue<?> file;
+
+    @BeforeEach
+    void setUp() {
+        // Pas de consommateur : les demandes restent dans la file
+        ingestionProjets = new IngestionProjetsServicesImpl();
+        file = new ArrayBlockingQueue<>(1);
+        ReflectionTestUtils.setField(ingestionProjets, "capacite", 1);
+        ReflectionTestUtils.setField(ingestionProjets, "file", file);
+        ReflectionTestUtils.setField(ingestionProjets, "statuts", Caffeine.newBuilder().build());
+    }
+
+    @Test
+    @DisplayName("Should enqueue a key once and return the same status for duplicates")
+    void testIdempotentSubmit() {
+        // Given
+        Projet projet = new Projet();
+        projet.setIdProjet(42L);
+
+        // When
+        IngestionStatutDTO premier = ingestionProjets.soumettreProjet("cle-1", projet);
+        IngestionStatutDTO doublon = ingestionProjets.soumettreProjet("cle-1", new Projet());
+
+        // Then
+        assertThat(premier.etat()).isEqualTo(IngestionStatutDTO.Etat.EN_ATTENTE);
+        assertThat(doublon).isEqualTo(premier);
+        assertThat(file).hasSize(1);
+        assertThat(projet.getIdProjet()).isNull();
+        assertThat(ingestionProjets.afficherStatut("cle-1")).isEqualTo(premier);
+    }
+
+    @Test
+    @DisplayName("Should reject when the queue is full and release the key")
+    void testQueueFull() {
+        // Given
+        ingestionProjets.soumettreProjet("cle-1", new Projet());
+
+        // When & Then
+        assertThatThrownBy(() -> ingestionProjets.soumettreProjetEtAffecter("cle-2", new Projet(), 1L))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> ingestionProjets.afficherStatut("cle-2"))
+                .isInstanceOf(NoSuchElementException.class);
+        file.clear();
+        assertThat(ingestionProjets.soumettreProjetEtAffecter("cle-2", new Projet(), 1L).etat())
+                .isEqualTo(IngestionStatutDTO.Etat.EN_ATTENTE);
+    }
+
+    @Test
+    @DisplayName("Should require an idempotency key")
+    void testBlankKey() {
+        // When & Then
+        assertThatThrownBy(() -> ingestionProjets.soumettreProjet(" ", new Projet()))
+                .isInstanceOf(RequeteInvalideException.class);
+        assertThat(file).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refresh the cost summary of the type a reassigned detail leaves")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testDetailReaffecte() {
+        // Given : le détail 5 appartient à un projet DS, la demande le donne à un projet DEV
+        ProjetRepository projetRepository = mock(ProjetRepository.class);
+        ProjetDetailRepository projetDetailRepository = mock(ProjetDetailRepository.class);
+        IAnalyticsServices analyticsServices = mock(IAnalyticsServices.class);
+        ReflectionTestUtils.setField(ingestionProjets, "projetRepository", projetRepository);
+        ReflectionTestUtils.setField(ingestionProjets, "projetDetailRepository", projetDetailRepository);
+        ReflectionTestUtils.setField(ingestionProjets, "statistiquesProjets", mock(IStatistiquesProjetsServices.class));
+        ReflectionTestUtils.setField(ingestionProjets, "analyticsServices", analyticsServices);
+        ReflectionTestUtils.setField(ingestionProjets, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(ingestionProjets, "cacheManager", new ConcurrentMapCacheManager());
+        Projet ancien = new Projet();
+        ancien.setTypeProjet(TypeProjet.DS);
+        ProjetDetail detail = new ProjetDetail();
+        detail.setIdProjetDetail(5L);
+        detail.setProjet(ancien);
+        when(projetDetailRepository.findAllById(any())).thenReturn(List.of(detail));
+        when(projetRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        Projet projet = new Projet();
+        projet.setTypeProjet(TypeProjet.DEV);
+        ingestionProjets.soumettreProjetEtAffecter("cle-1", projet, 5L);
+
+        // When
+        ingestionProjets.traiterLot((List) List.copyOf(file));
+
+        // Then
+        assertThat(ingestionProjets.afficherStatut("cle-1").etat()).isEqualTo(IngestionStatutDTO.Etat.TERMINE);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DS);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DEV);
+        verifyNoMoreInteractions(analyticsServices);
+    }
+}
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import tn.esprit.tpprojet2025.Entities.Projet;
 import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
 import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
 
 import java.time.LocalDate;
@@ -28,6 +30,12 @@ class ProjetDetailServicesImplTest {
     @Mock
     private ProjetDetailRepository projetDetailRepository;
 
+    @Mock
+    private IAnalyticsServices analyticsServices;
+
+    @Mock
+    private IStatistiquesProjetsServices statistiquesProjets;
+
     @InjectMocks
     private ProjetDetailServicesImpl projetDetailServices;
 
@@ -133,12 +141,17 @@ class ProjetDetailServicesImplTest {
         assertThat(result.getTechnologie()).isEqualTo("Vue.js, Express");
         assertThat(result.getCout()).isEqualTo(25000L);
         verify(projetDetailRepository, times(1)).save(projetDetail);
+        verify(analyticsServices).rafraichirResumeProjetDetail(1L);
     }
 
     @Test
     @DisplayName("Should delete projetDetail by ID")
     void testSupprimerProjetDetail() {
         // Given
+        Projet projet = new Projet();
+        projet.setTypeProjet(TypeProjet.DEV);
+        projetDetail.setProjet(projet);
+        when(projetDetailRepository.findWithProjetByIdProjetDetail(1L)).thenReturn(Optional.of(projetDetail));
         doNothing().when(projetDetailRepository).deleteById(anyLong());
 
         // When
@@ -146,6 +159,8 @@ class ProjetDetailServicesImplTest {
 
         // Then
         verify(projetDetailRepository, times(1)).deleteById(1L);
+        verify(statistiquesProjets).coutModifie(15000L, null);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DEV);
     }
 
     @Test
@@ -1,23 +1,41 @@
 package tn.esprit.tpprojet2025.Services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import tn.esprit.tpprojet2025.DTO.ProjetEquipeLinkDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetFiltreDTO;
 import tn.esprit.tpprojet2025.Entities.*;
-import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Mappers.ProjetDetailMapperImpl;
+import tn.esprit.tpprojet2025.Mappers.ProjetMapper;
+import tn.esprit.tpprojet2025.Mappers.ProjetMapperImpl;
+import tn.esprit.tpprojet2025.Mappers.ResumeMapperImpl;
 import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetEquipeLinkRepository;
 import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +49,28 @@ class ProjetServicesImplTest {
     private ProjetDetailRepository projetDetailRepository;
 
     @Mock
-    private EquipeRepository equipeRepository;
+    private ProjetEquipeLinkRepository projetEquipeLinkRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private IAnalyticsServices analyticsServices;
+
+    @Mock
+    private IStatistiquesProjetsServices statistiquesProjets;
+
+    @Mock
+    private IGrapheEquipesServices grapheEquipes;
+
+    @Mock
+    private VersionsTables versionsTables;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private ProjetMapper projetMapper = new ProjetMapperImpl(new ProjetDetailMapperImpl(), new ResumeMapperImpl());
 
     @InjectMocks
     private ProjetServicesImpl projetServices;
@@ -154,6 +193,36 @@ class ProjetServicesImplTest {
         verify(projetRepository, times(1)).save(projet);
     }
 
+    @Test
+    @DisplayName("Should turn a type and cost change into deltas, and rebuild only when the detail is replaced")
+    void testModifierProjet_Statistiques() {
+        // Given
+        Projet ancien = new Projet();
+        ancien.setIdProjet(1L);
+        ancien.setTypeProjet(TypeProjet.BI);
+        ProjetDetail ancienDetail = new ProjetDetail();
+        ancienDetail.setIdProjetDetail(1L);
+        ancienDetail.setCout(400L);
+        ancien.setProjetDetail(ancienDetail);
+        when(projetRepository.findById(1L)).thenReturn(Optional.of(ancien));
+        when(projetRepository.save(projet)).thenReturn(projet);
+
+        // When
+        projetServices.modifierProjet(projet);
+
+        // Then
+        verify(statistiquesProjets).typeModifie(TypeProjet.BI, TypeProjet.DEV);
+        verify(statistiquesProjets).coutModifie(400L, 1000L);
+        verify(statistiquesProjets, never()).reconstruire();
+
+        // When
+        ancienDetail.setIdProjetDetail(2L);
+        projetServices.modifierProjet(projet);
+
+        // Then
+        verify(statistiquesProjets).reconstruire();
+    }
+
     @Test
     @DisplayName("Should delete projet by ID")
     void testSupprimerProjet() {
@@ -167,6 +236,30 @@ class ProjetServicesImplTest {
         verify(projetRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    @DisplayName("Should update in-memory statistics when a projet is added or deleted")
+    void testStatistiquesAjoutEtSuppression() {
+        // Given
+        Projet nouveau = new Projet();
+        nouveau.setTypeProjet(TypeProjet.BI);
+        ProjetDetail nouveauDetail = new ProjetDetail();
+        nouveauDetail.setCout(700L);
+        nouveau.setProjetDetail(nouveauDetail);
+        when(projetRepository.save(nouveau)).thenReturn(nouveau);
+        projet.getEquipes().add(equipe);
+        when(projetRepository.findById(1L)).thenReturn(Optional.of(projet));
+
+        // When
+        projetServices.AjouterProjet(nouveau);
+        projetServices.supprimerProjet(1L);
+
+        // Then
+        verify(statistiquesProjets).projetAjoute(TypeProjet.BI, 700L);
+        verify(statistiquesProjets).projetSupprime(TypeProjet.DEV, 1000L, List.of(1L));
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.BI);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DEV);
+    }
+
     @Test
     @DisplayName("Should assign ProjetDetail to Projet successfully")
     void testAssignProjetDetailToProjet() {
@@ -183,24 +276,68 @@ class ProjetServicesImplTest {
         verify(projetDetailRepository, times(1)).findById(1L);
         verify(projetRepository, times(1)).save(projet);
         assertThat(projet.getProjetDetail()).isEqualTo(projetDetail);
+        verify(analyticsServices).rafraichirResumeType(projet.getTypeProjet());
+    }
+
+    @Test
+    @DisplayName("Should refresh the summary rows of both types when a detail moves to a projet of another type")
+    void testAssignProjetDetailToProjet_AutreType() {
+        // Given
+        Projet ancien = new Projet();
+        ancien.setIdProjet(2L);
+        ancien.setTypeProjet(TypeProjet.BI);
+        projetDetail.setProjet(ancien);
+        when(projetRepository.findById(1L)).thenReturn(Optional.of(projet));
+        when(projetDetailRepository.findById(1L)).thenReturn(Optional.of(projetDetail));
+
+        // When
+        projetServices.assignProjetDetailToProjet(1L, 1L);
+
+        // Then
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.BI);
+        verify(analyticsServices).rafraichirResumeType(TypeProjet.DEV);
     }
 
     @Test
     @DisplayName("Should assign Projet to Equipe successfully")
     void testAssignProjetToEquipe() {
         // Given
-        when(projetRepository.findById(1L)).thenReturn(Optional.of(projet));
-        when(equipeRepository.findById(1L)).thenReturn(Optional.of(equipe));
-        when(equipeRepository.save(any(Equipe.class))).thenReturn(equipe);
+        org.hibernate.Cache cache = mockSecondLevelCache();
+        when(projetRepository.existsById(1L)).thenReturn(true);
+        when(projetEquipeLinkRepository.incrementEquipeVersions(List.of(1L))).thenReturn(1);
+        when(projetEquipeLinkRepository.insertLink(1L, 1L)).thenReturn(true);
 
         // When
         projetServices.assignProjetToEquipe(1L, 1L);
 
         // Then
-        verify(projetRepository, times(1)).findById(1L);
-        verify(equipeRepository, times(1)).findById(1L);
-        verify(equipeRepository, times(1)).save(equipe);
-        assertThat(equipe.getProjets()).contains(projet);
+        InOrder inOrder = inOrder(projetEquipeLinkRepository);
+        inOrder.verify(projetEquipeLinkRepository).incrementEquipeVersions(List.of(1L));
+        inOrder.verify(projetEquipeLinkRepository).insertLink(1L, 1L);
+        verify(cache).evictEntityData(Equipe.class, 1L);
+        verify(cache).evictCollectionData(Equipe.PROJETS_ROLE, 1L);
+        verify(statistiquesProjets).projetAffecte(1L);
+        verify(grapheEquipes).lienAjoute(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should not count an already existing link and reject unknown teams")
+    void testAssignProjetToEquipe_ExistingLinkAndMissingEquipe() {
+        // Given
+        mockSecondLevelCache();
+        when(projetRepository.existsById(1L)).thenReturn(true);
+        when(projetEquipeLinkRepository.incrementEquipeVersions(List.of(1L))).thenReturn(1);
+        when(projetEquipeLinkRepository.incrementEquipeVersions(List.of(999L))).thenReturn(0);
+        when(projetEquipeLinkRepository.insertLink(1L, 1L)).thenReturn(false);
+
+        // When
+        projetServices.assignProjetToEquipe(1L, 1L);
+
+        // Then
+        verify(statistiquesProjets, never()).projetAffecte(anyLong());
+        verify(grapheEquipes, never()).lienAjoute(anyLong(), anyLong());
+        assertThrows(NoSuchElementException.class, () -> projetServices.assignProjetToEquipe(1L, 999L));
+        verify(projetEquipeLinkRepository, never()).insertLink(999L, 1L);
     }
 
     @Test
@@ -240,19 +377,17 @@ class ProjetServicesImplTest {
     @DisplayName("Should unassign Projet from Equipe successfully")
     void testUnassignProjetFromEquipe() {
         // Given
-        equipe.getProjets().add(projet);
-        when(equipeRepository.findById(1L)).thenReturn(Optional.of(equipe));
-        when(projetRepository.findById(1L)).thenReturn(Optional.of(projet));
-        when(equipeRepository.save(any(Equipe.class))).thenReturn(equipe);
+        mockSecondLevelCache();
+        when(projetEquipeLinkRepository.incrementEquipeVersions(List.of(1L))).thenReturn(1);
+        when(projetEquipeLinkRepository.deleteLink(1L, 1L)).thenReturn(true);
 
         // When
         projetServices.UnassignProjetFromEquipe(1L, 1L);
 
         // Then
-        verify(equipeRepository, times(1)).findById(1L);
-        verify(projetRepository, times(1)).findById(1L);
-        verify(equipeRepository, times(1)).save(equipe);
-        assertThat(equipe.getProjets()).doesNotContain(projet);
+        verify(projetEquipeLinkRepository).deleteLink(1L, 1L);
+        verify(statistiquesProjets).projetDesaffecte(1L);
+        verifyNoInteractions(projetRepository);
     }
 
     @Test
@@ -305,4 +440,140 @@ class ProjetServicesImplTest {
             projetServices.assignProjetDetailToProjet(999L, 1L);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return first keyset page with a continuation token")
+    void testAfficherPageProjets_FirstPage() {
+        // Given
+        Projet projet2 = new Projet();
+        projet2.setIdProjet(2L);
+        Projet projet3 = new Projet();
+        projet3.setIdProjet(3L);
+        when(projetRepository.findByIdProjetGreaterThanOrderByIdProjetAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(projet, projet2, projet3));
+
+        // When
+        KeysetPage<Projet> result = projetServices.afficherPageProjets(null, 2);
+
+        // Then
+        assertThat(result.items()).containsExactly(projet, projet2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(PageTokens.decode(result.nextPageToken())).isEqualTo(2L);
+        verify(projetRepository, times(1))
+                .findByIdProjetGreaterThanOrderByIdProjetAsc(0L, PageRequest.of(0, 3));
+    }
+
+    @Test
+    @DisplayName("Should seek after the last id of the token and end on the last page")
+    void testAfficherPageProjets_LastPage() {
+        // Given
+        when(projetRepository.findByIdProjetGreaterThanOrderByIdProjetAsc(eq(1L), any(Pageable.class)))
+                .thenReturn(Arrays.asList());
+
+        // When
+        KeysetPage<Projet> result = projetServices.afficherPageProjets(PageTokens.encode(1L), 10);
+
+        // Then
+        assertThat(result.items()).isEmpty();
+        assertThat(result.nextPageToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should bound the page size and reject malformed tokens")
+    void testAfficherPageProjets_SizeAndTokenValidation() {
+        // Given
+        when(projetRepository.findByIdProjetGreaterThanOrderByIdProjetAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(Arrays.asList());
+
+        // When
+        projetServices.afficherPageProjets(null, 100_000);
+
+        // Then
+        verify(projetRepository).findByIdProjetGreaterThanOrderByIdProjetAsc(
+                0L, PageRequest.of(0, PageTokens.MAX_PAGE_SIZE + 1));
+        assertThrows(RequeteInvalideException.class, () -> projetServices.afficherPageProjets("not-a-token", 10));
+    }
+
+    @Test
+    @DisplayName("Should export projets as NDJSON and detach each exported entity")
+    void testExporterProjets() throws Exception {
+        // Given
+        projet.getEquipes().add(equipe);
+        Projet projet2 = new Projet();
+        projet2.setIdProjet(2L);
+        projet2.setNomProjet("Test Projet 2");
+        when(projetRepository.streamAllWithDetailAndEquipes()).thenReturn(Stream.of(projet, projet2));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = projetServices.exporterProjets(out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"nomProjet\":\"Test Projet\"", "\"idEquipe\":1", "\"cout\":1000");
+        assertThat(lines[1]).contains("\"idProjet\":2", "\"equipes\":[]");
+        verify(entityManager).detach(projet);
+        verify(entityManager).detach(projet2);
+        verify(entityManager).detach(equipe);
+    }
+
+    @Test
+    @DisplayName("Should bulk assign and unassign links through the join table and evict cached team collections")
+    void testAssignAndUnassignProjetsToEquipes() {
+        // Given
+        ProjetEquipeLinkDTO link1 = new ProjetEquipeLinkDTO(1L, 1L);
+        ProjetEquipeLinkDTO link2 = new ProjetEquipeLinkDTO(2L, 1L);
+        List<ProjetEquipeLinkDTO> links = Arrays.asList(link1, link2, link1);
+        org.hibernate.Cache cache = mockSecondLevelCache();
+        when(projetEquipeLinkRepository.incrementEquipeVersions(List.of(1L))).thenReturn(1);
+        when(projetEquipeLinkRepository.insertLinks(any())).thenReturn(Optional.of(List.of(link2)));
+        when(projetEquipeLinkRepository.deleteLinks(any())).thenReturn(Optional.of(List.of(link1, link2)));
+
+        // When
+        projetServices.assignProjetsToEquipes(links);
+        projetServices.UnassignProjetsFromEquipes(links);
+
+        // Then
+        verify(projetEquipeLinkRepository).insertLinks(new LinkedHashSet<>(List.of(link1, link2)));
+        verify(projetEquipeLinkRepository).deleteLinks(new LinkedHashSet<>(List.of(link1, link2)));
+        verify(projetEquipeLinkRepository, times(2)).incrementEquipeVersions(List.of(1L));
+        verify(cache, times(2)).evictCollectionData(Equipe.PROJETS_ROLE, 1L);
+        verify(statistiquesProjets).projetAffecte(1L);
+        verify(statistiquesProjets, times(2)).projetDesaffecte(1L);
+        verify(statistiquesProjets, never()).reconstruire();
+        verifyNoInteractions(projetRepository);
+    }
+
+    private org.hibernate.Cache mockSecondLevelCache() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        org.hibernate.Cache cache = mock(org.hibernate.Cache.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        return cache;
+    }
+
+    @Test
+    @DisplayName("Should reject inverted search ranges and unknown sorts before querying")
+    void testRechercherProjetsInvalidRanges() {
+        // Given
+        ProjetFiltreDTO coutInverse = new ProjetFiltreDTO(null, null, null, 5000L, 1000L, null, null);
+        ProjetFiltreDTO datesInverses = new ProjetFiltreDTO(null, null, null, null, null,
+                java.time.LocalDate.of(2025, 6, 1), java.time.LocalDate.of(2025, 1, 1));
+
+        // When & Then
+        assertThrows(RequeteInvalideException.class,
+                () -> projetServices.rechercherProjets(coutInverse, null, "ASC", 0, 10));
+        assertThrows(RequeteInvalideException.class,
+                () -> projetServices.rechercherProjets(datesInverses, null, "ASC", 0, 10));
+        ProjetFiltreDTO sansFiltre = new ProjetFiltreDTO(null, null, null, null, null, null, null);
+        assertThrows(RequeteInvalideException.class,
+                () -> projetServices.rechercherProjets(sansFiltre, "budget", "ASC", 0, 10));
+        assertThrows(RequeteInvalideException.class,
+                () -> projetServices.rechercherProjets(sansFiltre, null, "sideways", 0, 10));
+        verifyNoInteractions(projetRepository);
+    }
+}
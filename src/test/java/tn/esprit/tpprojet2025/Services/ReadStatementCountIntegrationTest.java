@@ -0,0 +1,180 @@
+package tn.esprit.tpprojet2025.Services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.EquipeDTO;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.Entities.*;
+import tn.esprit.tpprojet2025.Repositories.EntrepriseRepository;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Read endpoints issue a bounded number of SQL statements")
+class ReadStatementCountIntegrationTest {
+
+    private static final int NB_PROJETS = 40;
+    private static final int NB_EQUIPES = 5;
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private IEquipeServices equipeServices;
+
+    @Autowired
+    private IEntrepriseServices entrepriseServices;
+
+    @Autowired
+    private IProjetDetailServices projetDetailServices;
+
+    @Autowired
+    private ProjetRepository projetRepository;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private long firstProjetId;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            Entreprise entreprise = new Entreprise();
+            entreprise.setNom("Esprit");
+            entreprise.setAdresse("Ariana");
+            entreprise = entrepriseRepository.save(entreprise);
+
+            List<Equipe> equipes = new ArrayList<>();
+            for (int i = 0; i < NB_EQUIPES; i++) {
+                Equipe equipe = new Equipe();
+                equipe.setNomEquipe("Equipe " + i);
+                equipe.setSpecialite("Dev");
+                equipe.setEntreprise(entreprise);
+                equipe.setProjets(new HashSet<>());
+                equipes.add(equipeRepository.save(equipe));
+            }
+
+            for (int i = 0; i < NB_PROJETS; i++) {
+                ProjetDetail detail = new ProjetDetail();
+                detail.setDescription("Description " + i);
+                detail.setTechnologie("Java");
+                detail.setCout(1000L + i);
+                detail.setDateDebut(LocalDate.of(2025, 1, 1).plusDays(i));
+
+                Projet projet = new Projet();
+                projet.setNomProjet("Projet " + i);
+                projet.setTypeProjet(TypeProjet.values()[i % TypeProjet.values().length]);
+                projet.setProjetDetail(detail);
+                Projet saved = projetRepository.save(projet);
+                // Equipe.projets est le côté propriétaire de la table de jointure
+                equipes.get(i % NB_EQUIPES).getProjets().add(saved);
+                equipes.get((i + 1) % NB_EQUIPES).getProjets().add(saved);
+                if (i == 0) {
+                    firstProjetId = saved.getIdProjet();
+                }
+            }
+        });
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Listing projets loads detail, teams and entreprises in a bounded number of queries")
+    void listeProjets() {
+        List<ProjetDTO> projets = projetServices.afficherListeProjetsDTO();
+
+        assertThat(projets).hasSize(NB_PROJETS);
+        assertThat(projets).allSatisfy(p -> {
+            assertThat(p.projetDetail()).isNotNull();
+            assertThat(p.equipes()).hasSize(2).allSatisfy(e -> assertThat(e.idEntreprise()).isNotNull());
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Fetching one projet by id is a single round-trip")
+    void projetSelonId() {
+        ProjetDTO projet = projetServices.afficherProjetDTOSelonID(firstProjetId);
+
+        assertThat(projet.projetDetail().technologie()).isEqualTo("Java");
+        assertThat(projet.equipes()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Exporting projets streams detail and teams in a single query")
+    void exportProjets() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = projetServices.exporterProjets(out);
+
+        List<ProjetDTO> projets = new ArrayList<>();
+        for (String ligne : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            projets.add(objectMapper.readValue(ligne, ProjetDTO.class));
+        }
+        assertThat(count).isEqualTo(NB_PROJETS);
+        assertThat(projets).hasSize(NB_PROJETS).allSatisfy(p -> {
+            assertThat(p.projetDetail()).isNotNull();
+            assertThat(p.equipes()).hasSize(2);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Listing equipes, entreprises and details does not fan out per row")
+    void autresListes() {
+        List<EquipeDTO> equipes = equipeServices.afficherListeEquipesDTO();
+        assertThat(equipes).hasSize(NB_EQUIPES).allSatisfy(e -> assertThat(e.nomEntreprise()).isEqualTo("Esprit"));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+
+        statistics.clear();
+        assertThat(entrepriseServices.afficherListeEntrepriseDTO()).singleElement()
+                .satisfies(e -> assertThat(e.equipes()).hasSize(NB_EQUIPES));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+
+        statistics.clear();
+        assertThat(projetDetailServices.afficherListeProjetDetailDTO()).hasSize(NB_PROJETS)
+                .allSatisfy(d -> assertThat(d.idProjet()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+}
@@ -0,0 +1,110 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tn.esprit.tpprojet2025.DTO.ProjetRechercheDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Index plein texte : suivi des écritures des services, classement, préfixes, fautes de frappe
+ * et reconstruction complète par le mass indexer.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recherche;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa"
+})
+@DisplayName("Full-text search over projets and their details")
+class RechercheProjetsIntegrationTest {
+
+    @Autowired
+    private IRechercheProjetsServices rechercheProjets;
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private IProjetDetailServices projetDetailServices;
+
+    private Projet kafka;
+    private Projet portail;
+
+    @BeforeEach
+    void setUp() {
+        projetServices.afficherListeProjets().forEach(p -> projetServices.supprimerProjet(p.getIdProjet()));
+        kafka = projetServices.AjouterProjet(projet("Plateforme Kafka", "Traitement des événements en streaming", "Java"));
+        portail = projetServices.AjouterProjet(projet("Portail RH", "Migration de la plateforme Kafka existante", "Angular"));
+    }
+
+    @Test
+    @DisplayName("Should rank name matches first and accept prefixes, typos and accents")
+    void testRankingPrefixFuzzy() {
+        // When & Then
+        assertThat(ids("kafka")).containsExactly(kafka.getIdProjet(), portail.getIdProjet());
+        assertThat(ids("plat")).containsExactly(kafka.getIdProjet(), portail.getIdProjet());
+        assertThat(ids("kafak")).contains(kafka.getIdProjet());
+        assertThat(ids("evenements")).containsExactly(kafka.getIdProjet());
+        assertThat(rechercheProjets.rechercherTexte("angular", 0, 10).getContent()).singleElement()
+                .satisfies(r -> {
+                    assertThat(r.technologie()).isEqualTo("Angular");
+                    assertThat(r.score()).isPositive();
+                });
+        assertThrows(RequeteInvalideException.class, () -> rechercheProjets.rechercherTexte(" ", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Should follow detail updates and deletions made through the services")
+    void testIndexFollowsWrites() {
+        // Given
+        ProjetDetail detail = projetDetailServices.afficherProjetDetailSelonID(portail.getProjetDetail().getIdProjetDetail());
+        detail.setTechnologie("Kotlin");
+
+        // When
+        projetDetailServices.modifierProjetDetail(detail);
+        projetServices.supprimerProjet(kafka.getIdProjet());
+
+        // Then
+        assertThat(ids("kotlin")).containsExactly(portail.getIdProjet());
+        assertThat(ids("angular")).isEmpty();
+        assertThat(ids("streaming")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the whole index with the mass indexer")
+    void testReindexer() {
+        // When
+        rechercheProjets.reindexer();
+
+        // Then
+        assertThat(rechercheProjets.rechercherTexte("kafka", 0, 1).getTotalElements()).isEqualTo(2);
+        assertThat(rechercheProjets.rechercherTexte("kafka", 1, 1).getContent())
+                .extracting(ProjetRechercheDTO::idProjet).containsExactly(portail.getIdProjet());
+    }
+
+    private List<Long> ids(String texte) {
+        return rechercheProjets.rechercherTexte(texte, 0, 10).getContent().stream()
+                .map(ProjetRechercheDTO::idProjet)
+                .toList();
+    }
+
+    private static Projet projet(String nom, String description, String technologie) {
+        ProjetDetail detail = new ProjetDetail();
+        detail.setDescription(description);
+        detail.setTechnologie(technologie);
+        detail.setCout(1000L);
+        Projet projet = new Projet();
+        projet.setNomProjet(nom);
+        projet.setTypeProjet(TypeProjet.DEV);
+        projet.setProjetDetail(detail);
+        return projet;
+    }
+}
@@ -0,0 +1,97 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tn.esprit.tpprojet2025.DTO.CoutParTypeDTO;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.ResumeCoutTypeRepository;
+import tn.esprit.tpprojet2025.Repositories.StatistiquesCoutRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Table de synthèse des coûts sous écritures concurrentes d'un même type : aucune écriture n'échoue
+ * à cause de la synthèse, et la ligne finale reflète toutes les écritures validées.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:resume;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa"
+})
+@DisplayName("Cost summary under concurrent writes")
+class ResumeCoutTypeIntegrationTest {
+
+    private static final int ECRIVAINS = 8;
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private IAnalyticsServices analyticsServices;
+
+    @Autowired
+    private StatistiquesCoutRepository statistiquesCoutRepository;
+
+    @Autowired
+    private ResumeCoutTypeRepository resumeCoutTypeRepository;
+
+    private final List<Long> idsProjets = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        idsProjets.forEach(projetServices::supprimerProjet);
+        idsProjets.clear();
+    }
+
+    @Test
+    @DisplayName("Concurrent first writes of a type neither fail nor lose an update")
+    void testEcrituresConcurrentes() throws Exception {
+        // Given : aucune ligne de synthèse, les écrivains créent le premier projet chiffré du type
+        resumeCoutTypeRepository.deleteAllInBatch();
+        ExecutorService executor = Executors.newFixedThreadPool(ECRIVAINS);
+        CountDownLatch depart = new CountDownLatch(1);
+        List<Future<?>> ecritures = new ArrayList<>();
+        for (int i = 0; i < ECRIVAINS; i++) {
+            long cout = (i + 1) * 100L;
+            ecritures.add(executor.submit(() -> {
+                depart.await();
+                idsProjets.add(projetServices.AjouterProjet(projet(cout)).getIdProjet());
+                return null;
+            }));
+        }
+
+        // When
+        depart.countDown();
+        for (Future<?> ecriture : ecritures) {
+            ecriture.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        CoutParTypeDTO attendu = statistiquesCoutRepository.findCoutsByTypeProjet(TypeProjet.DS).orElseThrow();
+        assertThat(attendu.nombreProjets()).isEqualTo(ECRIVAINS);
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(analyticsServices.afficherResumeParType()).contains(attendu));
+    }
+
+    private static Projet projet(long cout) {
+        ProjetDetail detail = new ProjetDetail();
+        detail.setDescription("Synthèse");
+        detail.setCout(cout);
+        Projet projet = new Projet();
+        projet.setNomProjet("Synthèse " + cout);
+        projet.setTypeProjet(TypeProjet.DS);
+        projet.setProjetDetail(detail);
+        return projet;
+    }
+}
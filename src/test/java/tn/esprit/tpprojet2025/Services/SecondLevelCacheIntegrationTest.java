@@ -0,0 +1,105 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import tn.esprit.tpprojet2025.Entities.Entreprise;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DisplayName("Second-level cache for Entreprise and Equipe")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private IEntrepriseServices entrepriseServices;
+
+    @Autowired
+    private IEquipeServices equipeServices;
+
+    @Autowired
+    private ICacheServices cacheServices;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> idsEntreprises = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // Contexte partagé avec ReadStatementCountIntegrationTest (mêmes propriétés) : ne rien laisser en base
+    @AfterEach
+    void tearDown() {
+        idsEntreprises.forEach(entrepriseServices::supprimerEntreprise);
+    }
+
+    @Test
+    @DisplayName("Repeated by-id reads are served from the cache and see updates")
+    void testEntrepriseSelonIdCachedAndUpdated() {
+        // Given
+        Entreprise entreprise = new Entreprise();
+        entreprise.setNom("Avant");
+        entreprise.setAdresse("Tunis");
+        long id = entrepriseServices.AjouterEntreprise(entreprise).getIdEntreprise();
+        idsEntreprises.add(id);
+        entityManagerFactory.getCache().evictAll();
+
+        // When
+        entrepriseServices.afficherEntrepriseSelonID(id);
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+        Entreprise cached = entrepriseServices.afficherEntrepriseSelonID(id);
+
+        // Then
+        assertThat(cached.getNom()).isEqualTo("Avant");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(cacheServices.afficherStatistiquesCache())
+                .anySatisfy(r -> {
+                    assertThat(r.region()).isEqualTo(Entreprise.CACHE_REGION);
+                    assertThat(r.hits()).isPositive();
+                });
+
+        // When
+        cached.setNom("Après");
+        entrepriseServices.modifierEntreprise(cached);
+
+        // Then
+        assertThat(entrepriseServices.afficherEntrepriseSelonID(id).getNom()).isEqualTo("Après");
+    }
+
+    @Test
+    @DisplayName("A deleted equipe is no longer served from the cache")
+    void testSupprimerEquipeEvicts() {
+        // Given
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Temporaire");
+        long id = equipeServices.AjouterEquipe(equipe).getIdEquipe();
+        equipeServices.afficherEquipeSelonID(id);
+
+        // When
+        equipeServices.supprimerEquipe(id);
+
+        // Then
+        assertThrows(NoSuchElementException.class, () -> equipeServices.afficherEquipeSelonID(id));
+    }
+}
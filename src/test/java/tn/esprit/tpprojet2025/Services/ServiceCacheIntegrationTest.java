@@ -0,0 +1,147 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tn.esprit.tpprojet2025.DTO.ProjetDTO;
+import tn.esprit.tpprojet2025.Entities.Equipe;
+import tn.esprit.tpprojet2025.Entities.Projet;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DisplayName("Spring Cache on by-id DTO reads")
+class ServiceCacheIntegrationTest {
+
+    @Autowired
+    private IProjetServices projetServices;
+
+    @Autowired
+    private IEquipeServices equipeServices;
+
+    @Autowired
+    private ICacheServices cacheServices;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private final List<Long> idsProjets = new ArrayList<>();
+    private final List<Long> idsEquipes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Contexte partagé avec ReadStatementCountIntegrationTest (mêmes propriétés) : ses comptages ne doivent
+    // pas voir nos lignes. Les équipes d'abord : leur suppression retire les liens (et leurs projets en cascade)
+    @AfterEach
+    void tearDown() {
+        idsEquipes.forEach(equipeServices::supprimerEquipe);
+        idsProjets.forEach(projetServices::supprimerProjet);
+    }
+
+    @Test
+    @DisplayName("Repeated reads never reach Hibernate and writes evict the snapshot")
+    void testProjetDTOCachedThenEvicted() {
+        // Given
+        Projet projet = new Projet();
+        projet.setNomProjet("Avant");
+        projet.setTypeProjet(TypeProjet.BI);
+        Projet saved = projetServices.AjouterProjet(projet);
+        idsProjets.add(saved.getIdProjet());
+        ProjetDTO first = projetServices.afficherProjetDTOSelonID(saved.getIdProjet());
+        statistics.clear();
+
+        // When
+        ProjetDTO second = projetServices.afficherProjetDTOSelonID(saved.getIdProjet());
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cacheServices.afficherStatistiquesCacheServices())
+                .anySatisfy(c -> {
+                    assertThat(c.cache()).isEqualTo(CacheNames.PROJETS);
+                    assertThat(c.hits()).isPositive();
+                });
+        assertThrows(UnsupportedOperationException.class, () -> second.equipes().add(null));
+
+        // When
+        saved.setNomProjet("Après");
+        projetServices.modifierProjet(saved);
+
+        // Then
+        assertThat(projetServices.afficherProjetDTOSelonID(saved.getIdProjet()).nomProjet()).isEqualTo("Après");
+    }
+
+    @Test
+    @DisplayName("A write evicts the snapshot only once its transaction commits")
+    void testEvictionApresCommit() {
+        // Given
+        Projet projet = new Projet();
+        projet.setNomProjet("Avant commit");
+        Projet saved = projetServices.AjouterProjet(projet);
+        idsProjets.add(saved.getIdProjet());
+        projetServices.afficherProjetDTOSelonID(saved.getIdProjet());
+        Cache cache = cacheManager.getCache(CacheNames.PROJETS);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            saved.setNomProjet("Après commit");
+            projetServices.modifierProjet(saved);
+
+            // Then
+            assertThat(cache.get(saved.getIdProjet())).isNotNull();
+        });
+        assertThat(cache.get(saved.getIdProjet())).isNull();
+    }
+
+    @Test
+    @DisplayName("Assigning a projet to an equipe evicts both snapshots")
+    void testAssignEvicts() {
+        // Given
+        Projet projet = new Projet();
+        projet.setNomProjet("Lien");
+        long idProjet = projetServices.AjouterProjet(projet).getIdProjet();
+        idsProjets.add(idProjet);
+        Equipe equipe = new Equipe();
+        equipe.setNomEquipe("Equipe lien");
+        equipe.setProjets(new java.util.HashSet<>());
+        long idEquipe = equipeServices.AjouterEquipe(equipe).getIdEquipe();
+        idsEquipes.add(idEquipe);
+        assertThat(projetServices.afficherProjetDTOSelonID(idProjet).equipes()).isEmpty();
+        assertThat(equipeServices.afficherEquipeDTOSelonID(idEquipe).projets()).isEmpty();
+
+        // When
+        projetServices.assignProjetToEquipe(idProjet, idEquipe);
+
+        // Then
+        assertThat(projetServices.afficherProjetDTOSelonID(idProjet).equipes()).singleElement()
+                .satisfies(e -> assertThat(e.idEquipe()).isEqualTo(idEquipe));
+        assertThat(equipeServices.afficherEquipeDTOSelonID(idEquipe).projets()).singleElement()
+                .satisfies(p -> assertThat(p.idProjet()).isEqualTo(idProjet));
+    }
+}
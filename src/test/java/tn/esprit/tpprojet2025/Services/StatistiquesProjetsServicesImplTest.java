@@ -0,0 +1,194 @@
+package tn.esprit.tpprojet2025.Services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tn.esprit.tpprojet2025.DTO.StatistiquesProjetsDTO;
+import tn.esprit.tpprojet2025.Entities.TypeProjet;
+import tn.esprit.tpprojet2025.Repositories.EquipeRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetDetailRepository;
+import tn.esprit.tpprojet2025.Repositories.ProjetRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for StatistiquesProjetsServicesImpl")
+class StatistiquesProjetsServicesImplTest {
+
+    @Mock
+    private ProjetRepository projetRepository;
+
+    @Mock
+    private EquipeRepository equipeRepository;
+
+    @Mock
+    private ProjetDetailRepository projetDetailRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private StatistiquesProjetsServicesImpl statistiquesProjets;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should build counters once from the repositories")
+    void testReconstruire() {
+        // Given
+        List<Object[]> parType = new ArrayList<>();
+        parType.add(new Object[]{TypeProjet.DEV, 3L});
+        parType.add(new Object[]{null, 1L});
+        List<Object[]> parEquipe = new ArrayList<>();
+        parEquipe.add(new Object[]{10L, 2L});
+        when(projetRepository.countGroupByTypeProjet()).thenReturn(parType);
+        when(equipeRepository.countProjetsGroupByEquipe()).thenReturn(parEquipe);
+        when(projetDetailRepository.sumCout()).thenReturn(9000L);
+
+        // When
+        statistiquesProjets.reconstruire();
+        StatistiquesProjetsDTO result = statistiquesProjets.afficherStatistiques();
+
+        // Then
+        assertThat(result.nombreProjets()).isEqualTo(4L);
+        assertThat(result.coutTotal()).isEqualTo(9000L);
+        assertThat(result.projetsParType()).containsEntry(TypeProjet.DEV, 3L).containsEntry(TypeProjet.BI, 0L);
+        assertThat(result.projetsParEquipe()).containsExactlyEntriesOf(Map.of(10L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should apply deltas and serve the same snapshot until a counter changes")
+    void testDeltasEtInstantane() {
+        // When
+        statistiquesProjets.projetAjoute(TypeProjet.BI, 500L);
+        statistiquesProjets.projetAjoute(TypeProjet.BI, null);
+        statistiquesProjets.projetAffecte(7L);
+        statistiquesProjets.coutModifie(500L, 800L);
+        statistiquesProjets.typeModifie(TypeProjet.BI, TypeProjet.DEV);
+        StatistiquesProjetsDTO premier = statistiquesProjets.afficherStatistiques();
+
+        // Then
+        assertThat(premier.nombreProjets()).isEqualTo(2L);
+        assertThat(premier.projetsParType()).containsEntry(TypeProjet.BI, 1L).containsEntry(TypeProjet.DEV, 1L);
+        assertThat(premier.coutTotal()).isEqualTo(800L);
+        assertThat(premier.projetsParEquipe()).containsEntry(7L, 1L);
+        assertThat(statistiquesProjets.afficherStatistiques()).isSameAs(premier);
+
+        statistiquesProjets.projetDesaffecte(7L);
+        statistiquesProjets.projetSupprime(TypeProjet.DEV, 800L, List.of());
+        StatistiquesProjetsDTO second = statistiquesProjets.afficherStatistiques();
+        assertThat(second).isNotSameAs(premier);
+        assertThat(second.nombreProjets()).isEqualTo(1L);
+        assertThat(second.coutTotal()).isZero();
+        assertThat(second.projetsParEquipe()).isEmpty();
+        verifyNoInteractions(projetRepository, equipeRepository, projetDetailRepository);
+    }
+
+    @Test
+    @DisplayName("Should defer updates made inside a transaction until commit")
+    void testApresCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        statistiquesProjets.projetAjoute(TypeProjet.DS, 100L);
+        statistiquesProjets.projetAffecte(3L);
+
+        // Then
+        assertThat(statistiquesProjets.afficherStatistiques().nombreProjets()).isZero();
+        List<TransactionSynchronization> synchronisations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronisations).hasSize(1);
+        TransactionSynchronizationManager.clearSynchronization();
+        commit(synchronisations);
+        assertThat(statistiquesProjets.afficherStatistiques().nombreProjets()).isEqualTo(1L);
+        assertThat(statistiquesProjets.afficherStatistiques().projetsParEquipe()).containsEntry(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should keep a delta committed while a rebuild is reading the database")
+    void testDeltaPendantReconstruction() throws Exception {
+        // Given
+        CountDownLatch lectureEnCours = new CountDownLatch(1);
+        CountDownLatch finLecture = new CountDownLatch(1);
+        List<Object[]> parType = new ArrayList<>();
+        parType.add(new Object[]{TypeProjet.DEV, 3L});
+        when(projetRepository.countGroupByTypeProjet()).thenAnswer(invocation -> {
+            lectureEnCours.countDown();
+            finLecture.await(5, TimeUnit.SECONDS);
+            return parType;
+        });
+        when(equipeRepository.countProjetsGroupByEquipe()).thenReturn(List.of());
+        when(projetDetailRepository.sumCout()).thenReturn(0L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<?> reconstruction = executor.submit(() -> statistiquesProjets.reconstruire());
+        assertThat(lectureEnCours.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> ecriture = executor.submit(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            statistiquesProjets.projetAjoute(TypeProjet.DEV, null);
+            List<TransactionSynchronization> synchronisations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            commit(synchronisations);
+        });
+        finLecture.countDown();
+        reconstruction.get(5, TimeUnit.SECONDS);
+        ecriture.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(statistiquesProjets.afficherStatistiques().projetsParType()).containsEntry(TypeProjet.DEV, 4L);
+    }
+
+    private static void commit(List<TransactionSynchronization> synchronisations) {
+        synchronisations.forEach(s -> s.beforeCommit(false));
+        synchronisations.forEach(TransactionSynchronization::afterCommit);
+        synchronisations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Test
+    @DisplayName("Should not lose concurrent increments")
+    void testConcurrence() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            long idEquipe = i % 4;
+            executor.execute(() -> {
+                statistiquesProjets.projetAjoute(TypeProjet.DEV, 1L);
+                statistiquesProjets.projetAffecte(idEquipe);
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        StatistiquesProjetsDTO result = statistiquesProjets.afficherStatistiques();
+        assertThat(result.projetsParType()).containsEntry(TypeProjet.DEV, 10_000L);
+        assertThat(result.coutTotal()).isEqualTo(10_000L);
+        assertThat(result.projetsParEquipe().values()).containsOnly(2_500L);
+    }
+}
@@ -0,0 +1,75 @@
+package tn.esprit.tpprojet2025.Services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tn.esprit.tpprojet2025.Entities.ProjetDetail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Frontières transactionnelles mesurées avec les statistiques Hibernate : une écriture en plusieurs
+ * étapes tient dans une seule transaction, et les lectures readOnly ne déclenchent aucun flush.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transactions;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa"
+})
+@DisplayName("Transaction boundaries of the services")
+class TransactionsIntegrationTest {
+
+    @Autowired
+    private IProjetDetailServices projetDetailServices;
+
+    @Autowired
+    private IEntrepriseServices entrepriseServices;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should run a multi-step write in a single transaction")
+    void testEcritureUneTransaction() {
+        // Given
+        ProjetDetail detail = new ProjetDetail();
+        detail.setDescription("Transactions");
+        detail.setCout(100L);
+        long idProjetDetail = projetDetailServices.AjouterProjetDetail(detail).getIdProjetDetail();
+        statistics.clear();
+
+        // When
+        projetDetailServices.supprimerProjetDetail(idProjetDetail);
+
+        // Then
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+        assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read without flushing in read-only transactions")
+    void testLectureSansFlush() {
+        // Given
+        statistics.clear();
+
+        // When
+        projetDetailServices.afficherListeProjetDetail();
+        projetDetailServices.afficherPageProjetDetailsDTO(null, 10);
+        entrepriseServices.afficherListeEntreprisesResume();
+
+        // Then
+        assertThat(statistics.getTransactionCount()).isEqualTo(3);
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+}